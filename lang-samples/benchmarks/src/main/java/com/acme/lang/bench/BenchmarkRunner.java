@@ -0,0 +1,33 @@
+package com.acme.lang.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line, but writes
+ * a JSON result file unless -rf/-rff say otherwise, so runs can be diffed across commits.
+ */
+public class BenchmarkRunner {
+
+    public static void main (String [] args) throws Exception {
+        CommandLineOptions cmd = new CommandLineOptions (args);
+        if (cmd.shouldHelp ()){
+            cmd.showHelp ();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder ().parent (cmd);
+        if (!cmd.getResultFormat ().hasValue ())
+            options.resultFormat (ResultFormatType.JSON);
+        if (!cmd.getResult ().hasValue ())
+            options.result ("jmh-result.json");
+
+        Runner runner = new Runner (options.build ());
+        if (cmd.shouldList ())
+            runner.list ();
+        else
+            runner.run ();
+    }
+}
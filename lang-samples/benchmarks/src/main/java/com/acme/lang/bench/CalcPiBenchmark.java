@@ -0,0 +1,41 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.pi.LeibnizPi;
+import com.acme.lang.thread.CalculationThread;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode ({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Benchmark)
+public class CalcPiBenchmark {
+
+    private final CalculationThread calc = new CalculationThread ("bench");
+
+    @Benchmark
+    public double calcPI (){
+        return calc.calcPI ();
+    }
+
+    @Benchmark
+    public double leibnizSequential (){
+        return LeibnizPi.sequential (LeibnizPi.DEFAULT_TERMS);
+    }
+
+    @Benchmark
+    public double leibnizParallel (){
+        return LeibnizPi.parallel (LeibnizPi.DEFAULT_TERMS);
+    }
+}
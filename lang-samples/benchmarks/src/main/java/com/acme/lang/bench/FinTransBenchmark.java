@@ -0,0 +1,68 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.sync.model.FinTrans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FinTrans.update on one shared instance with 1, 2, 4 and 8 contending threads.
+ * Other counts can be run with -t, which overrides every @Threads below.
+ */
+@BenchmarkMode ({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Benchmark)
+public class FinTransBenchmark {
+
+    private FinTrans ft;
+
+    @Setup (Level.Trial)
+    public void setUp (){
+        Stdout.discard ();
+        ft = new FinTrans ();
+    }
+
+    @TearDown (Level.Trial)
+    public void tearDown (){
+        Stdout.restore ();
+    }
+
+    @Benchmark
+    @Threads (1)
+    public void update1 (){
+        ft.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (2)
+    public void update2 (){
+        ft.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (4)
+    public void update4 (){
+        ft.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (8)
+    public void update8 (){
+        ft.update ("Deposit", 2000.0);
+    }
+}
@@ -0,0 +1,107 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.sync.combine.CombiningFinTrans;
+import com.acme.lang.sync.model.FinTrans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The synchronized FinTrans.update against the CombiningFinTrans front end and
+ * against callers that batch their own updates, at 2, 8 and 32 threads. The
+ * batched methods count each of their 16 updates as one operation. Both sides
+ * log to a no-op TransLog, so the lock hold time is the update, not a println.
+ */
+@BenchmarkMode ({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Benchmark)
+public class FinTransCombiningBenchmark {
+
+    private static final int BATCH = 16;
+
+    private FinTrans locked;
+    private CombiningFinTrans combining;
+    private List<FinTrans.Update> batch;
+
+    @Setup (Level.Trial)
+    public void setUp (){
+        locked = new FinTrans ((transName, amount) -> {});
+        combining = new CombiningFinTrans (new FinTrans ((transName, amount) -> {}));
+        batch = Collections.nCopies (BATCH, new FinTrans.Update ("Deposit", 2000.0));
+    }
+
+    @TearDown (Level.Trial)
+    public void tearDown (){
+        double mean = combining.meanBatchSize ();
+        if (mean > 0)
+            System.out.println ("mean combined batch: " + mean);
+    }
+
+    @Benchmark
+    @Threads (2)
+    public void lockedUpdate2 (){
+        locked.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (8)
+    public void lockedUpdate8 (){
+        locked.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (32)
+    public void lockedUpdate32 (){
+        locked.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (2)
+    public void combiningUpdate2 (){
+        combining.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (8)
+    public void combiningUpdate8 (){
+        combining.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (32)
+    public void combiningUpdate32 (){
+        combining.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (8)
+    @OperationsPerInvocation (BATCH)
+    public void batchedUpdate8 (){
+        locked.update (batch);
+    }
+
+    @Benchmark
+    @Threads (32)
+    @OperationsPerInvocation (BATCH)
+    public void batchedUpdate32 (){
+        locked.update (batch);
+    }
+}
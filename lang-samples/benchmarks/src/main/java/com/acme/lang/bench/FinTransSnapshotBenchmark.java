@@ -0,0 +1,115 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.sync.model.FinTrans;
+import com.acme.lang.sync.model.SnapshotFinTrans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The synchronized FinTrans.update against SnapshotFinTrans at 2, 8 and 32 writer
+ * threads, plus one writer with seven readers that want a consistent
+ * (transName, amount) pair: a synchronized block on FinTrans, a plain get on the snapshot.
+ * FinTrans logs to a no-op TransLog so neither side does I/O and only the
+ * publication strategy differs.
+ */
+@BenchmarkMode ({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Benchmark)
+public class FinTransSnapshotBenchmark {
+
+    private FinTrans locked;
+    private SnapshotFinTrans snapshot;
+
+    @Setup (Level.Trial)
+    public void setUp (){
+        locked = new FinTrans ((transName, amount) -> {});
+        snapshot = new SnapshotFinTrans ();
+    }
+
+    @Benchmark
+    @Threads (2)
+    public void lockedUpdate2 (){
+        locked.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (8)
+    public void lockedUpdate8 (){
+        locked.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (32)
+    public void lockedUpdate32 (){
+        locked.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (2)
+    public Object snapshotUpdate2 (){
+        return snapshot.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (8)
+    public Object snapshotUpdate8 (){
+        return snapshot.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (32)
+    public Object snapshotUpdate32 (){
+        return snapshot.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Group ("lockedMixed")
+    @GroupThreads (1)
+    public void lockedWriter (){
+        locked.update ("Withdrawal", 250.0);
+    }
+
+    @Benchmark
+    @Group ("lockedMixed")
+    @GroupThreads (7)
+    public void lockedReader (Blackhole bh){
+        synchronized (locked){
+            bh.consume (FinTrans.transName);
+            bh.consume (FinTrans.amount);
+        }
+    }
+
+    @Benchmark
+    @Group ("snapshotMixed")
+    @GroupThreads (1)
+    public Object snapshotWriter (){
+        return snapshot.update ("Withdrawal", 250.0);
+    }
+
+    @Benchmark
+    @Group ("snapshotMixed")
+    @GroupThreads (7)
+    public void snapshotReader (Blackhole bh){
+        SnapshotFinTrans.Snapshot s = snapshot.snapshot ();
+        bh.consume (s.transName);
+        bh.consume (s.amount);
+    }
+}
@@ -0,0 +1,88 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.idle.IdleStrategies;
+import com.acme.lang.idle.IdleStrategy;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Wake-up latency against CPU burned for each idle strategy. A waiter polls a
+ * volatile timestamp through the strategy while the main thread posts a new one
+ * after every gap; the waiter records how long each post took to be noticed and
+ * its own CPU time is compared with the wall time of the run.
+ * <p>
+ * Not a JMH suite: the quantity of interest is what the idle thread costs while
+ * nothing happens, which JMH does not measure. Run with
+ * {@code java -cp benchmarks.jar com.acme.lang.bench.IdleStrategyBenchmark [signals] [gapMicros]}.
+ */
+public class IdleStrategyBenchmark {
+
+    private static volatile long posted;
+    private static volatile boolean stop;
+
+    public static void main (String [] args) throws InterruptedException {
+        int signals = args.length == 0 ? 2000 : Integer.parseInt (args [0]);
+        long gapNanos = (args.length < 2 ? 1000 : Long.parseLong (args [1])) * 1000;
+
+        System.out.println ("strategy      p50 us    p99 us  p99.9 us    max us   cpu %   missed");
+        for (String name : new String [] {"spin", "yield", "park", "backoff"})
+            run (name, signals, gapNanos);
+    }
+
+    private static void run (String name, int signals, long gapNanos) throws InterruptedException {
+        IdleStrategy idle = IdleStrategies.named (name);
+        long [] latencies = new long [signals];
+        int [] received = new int [1];
+        posted = 0;
+        stop = false;
+
+        Thread waiter = new Thread (() -> {
+            long seen = 0;
+            int n = 0;
+            while (!stop){
+                long p = posted;
+                if (p != seen){
+                    if (n < latencies.length)
+                        latencies [n++] = System.nanoTime () - p;
+                    seen = p;
+                    idle.reset ();
+                } else {
+                    idle.idle ();
+                }
+            }
+            received [0] = n;
+        }, "waiter-" + name);
+
+        ThreadMXBean mx = ManagementFactory.getThreadMXBean ();
+        waiter.start ();
+        long start = System.nanoTime ();
+        long cpuStart = mx.getThreadCpuTime (waiter.getId ());
+        for (int i = 0; i < signals; i++){
+            LockSupport.parkNanos (gapNanos);
+            posted = System.nanoTime ();
+        }
+        // Let the last post be seen before stopping.
+        LockSupport.parkNanos (gapNanos);
+        long cpu = mx.getThreadCpuTime (waiter.getId ()) - cpuStart;
+        long wall = System.nanoTime () - start;
+        stop = true;
+        waiter.join ();
+
+        int n = received [0];
+        if (n == 0){
+            System.out.println (String.format ("%-8s no signals seen, missed %d", name, signals));
+            return;
+        }
+        Arrays.sort (latencies, 0, n);
+        System.out.println (String.format ("%-8s %9.1f %9.1f %9.1f %9.1f %7.1f %8d", name,
+                percentile (latencies, n, 0.50), percentile (latencies, n, 0.99), percentile (latencies, n, 0.999),
+                latencies [n - 1] / 1000.0, 100.0 * cpu / wall, signals - n));
+    }
+
+    private static double percentile (long [] sorted, int n, double p){
+        return sorted [(int) Math.min (n - 1, Math.round (p * (n - 1)))] / 1000.0;
+    }
+}
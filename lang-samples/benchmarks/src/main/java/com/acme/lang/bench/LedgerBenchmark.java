@@ -0,0 +1,83 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.sync.ledger.Ledger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random two-account transfers and optimistic balance reads on the striped
+ * Ledger. Throughput should grow close to linearly with threads as long as
+ * accounts (and so stripes hit) outnumber them.
+ */
+@BenchmarkMode ({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Benchmark)
+public class LedgerBenchmark {
+
+    @Param ({"1024", "1048576"})
+    public int accounts;
+
+    @Param ({"1024"})
+    public int stripes;
+
+    private Ledger ledger;
+
+    @Setup (Level.Trial)
+    public void setUp (){
+        ledger = new Ledger (accounts, stripes);
+        for (int i = 0; i < accounts; i++)
+            ledger.deposit (i, 1000000);
+    }
+
+    private boolean transfer (){
+        ThreadLocalRandom rnd = ThreadLocalRandom.current ();
+        return ledger.transfer (rnd.nextInt (accounts), rnd.nextInt (accounts), rnd.nextInt (100));
+    }
+
+    @Benchmark
+    @Threads (1)
+    public boolean transfer1 (){
+        return transfer ();
+    }
+
+    @Benchmark
+    @Threads (2)
+    public boolean transfer2 (){
+        return transfer ();
+    }
+
+    @Benchmark
+    @Threads (4)
+    public boolean transfer4 (){
+        return transfer ();
+    }
+
+    @Benchmark
+    @Threads (8)
+    public boolean transfer8 (){
+        return transfer ();
+    }
+
+    @Benchmark
+    @Threads (8)
+    public long balance8 (){
+        return ledger.balance (ThreadLocalRandom.current ().nextInt (accounts));
+    }
+}
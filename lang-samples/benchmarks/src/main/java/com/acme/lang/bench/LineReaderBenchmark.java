@@ -0,0 +1,54 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.io.ChannelLineReader;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Lines and MB per second when input is split into lines by BlockingThread's
+ * original per-byte System.in.read() loop against ChannelLineReader. Neither
+ * side prints: only the reading and the line splitting are measured. The channel
+ * mode also counts a last line that has no '\n', so it can report one more.
+ * <p>
+ * Reads standard input, or the file given as second argument, so gigabytes can
+ * be piped through either mode:
+ * {@code yes "the quick brown fox jumps over the lazy dog" | head -c 2G | java -cp benchmarks.jar com.acme.lang.bench.LineReaderBenchmark channel}
+ */
+public class LineReaderBenchmark {
+
+    public static void main (String [] args) throws IOException {
+        String mode = args.length == 0 ? "channel" : args [0];
+        Path file = args.length < 2 ? null : Paths.get (args [1]);
+
+        long [] counts = new long [2];
+        long start = System.nanoTime ();
+        switch (mode){
+            case "bytes":
+                // System.in is a BufferedInputStream; a file gets the same wrapper for a fair comparison.
+                try (InputStream in = file == null ? System.in : new BufferedInputStream (new FileInputStream (file.toFile ()))){
+                    int i;
+                    while ((i = in.read ()) != -1){
+                        counts [1]++;
+                        if (i == '\n')
+                            counts [0]++;
+                    }
+                }
+                break;
+            case "channel":
+                try (ChannelLineReader reader = file == null ? ChannelLineReader.stdin () : ChannelLineReader.open (file)){
+                    counts [0] = reader.forEachLine (line -> counts [1] += line.remaining () + 1);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException ("mode must be bytes or channel: " + mode);
+        }
+        long nanos = System.nanoTime () - start;
+        System.out.println (String.format ("%s: %d lines, %d bytes in %.2f s: %.1f MB/s, %.1f Mlines/s", mode,
+                counts [0], counts [1], nanos / 1e9, counts [1] * 1e3 / nanos, counts [0] * 1e3 / nanos));
+    }
+}
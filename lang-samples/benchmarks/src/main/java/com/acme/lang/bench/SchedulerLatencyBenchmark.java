@@ -0,0 +1,260 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.stats.LatencyHistogram;
+import com.acme.lang.thread.CalculationThread;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures what YieldSample, ScheduleSample and WaitNotifyAllSample only show
+ * through interleaved output, in three parts:
+ * <ul>
+ * <li>call cost: how long one Thread.yield(), Thread.onSpinWait(),
+ * LockSupport.parkNanos(1), Thread.sleep(0) or Thread.sleep(1) takes on an idle machine;</li>
+ * <li>wake-up latency: how long after a volatile timestamp is posted a waiter
+ * notices it, when it waits by spinning, yielding, sleeping, park/unpark or
+ * wait/notify, with CPU-bound load threads bringing the runnable threads to 1, 2
+ * and 4 times the CPU count (at least the two threads measured), and how many
+ * posts were overwritten before the waiter saw them;</li>
+ * <li>time-slice fairness: iterations of CalculationThread.calcPI() completed by
+ * each of ratio x CPUs threads, as Jain's index and min/max, with a histogram of
+ * iteration times whose tail is time spent preempted.</li>
+ * </ul>
+ * The wake-up histograms are what spin and backoff thresholds should be set from:
+ * spinning pays only while its latency beats parking's at the load expected.
+ * <p>
+ * Standalone, like IdleStrategyBenchmark. Run with
+ * {@code java -cp benchmarks.jar com.acme.lang.bench.SchedulerLatencyBenchmark [signals] [gapMicros] [ratios] [fairnessSeconds]},
+ * e.g. {@code 2000 100 1,2,4 2}.
+ */
+public class SchedulerLatencyBenchmark {
+
+    enum Wait {
+        SPIN, YIELD, SLEEP_0, SLEEP_1, PARK, WAIT_NOTIFY
+    }
+
+    private static final int CPUS = Runtime.getRuntime ().availableProcessors ();
+    private static final long MAX_RUN_NANOS = TimeUnit.SECONDS.toNanos (3);
+
+    private static volatile long posted;
+    private static int sent;
+    private static volatile boolean stop;
+    private static volatile boolean loadStop;
+    private static volatile long sink;
+
+    public static void main (String [] args) throws InterruptedException {
+        int signals = args.length == 0 ? 2000 : Integer.parseInt (args [0]);
+        long gapNanos = (args.length < 2 ? 100 : Long.parseLong (args [1])) * 1000;
+        String [] ratios = (args.length < 3 ? "1,2,4" : args [2]).split (",");
+        int fairnessSeconds = args.length < 4 ? 2 : Integer.parseInt (args [3]);
+
+        System.out.println (CPUS + " CPUs");
+        System.out.println ();
+        System.out.println ("call cost, idle machine:");
+        callCost ();
+
+        for (String r : ratios){
+            int ratio = Integer.parseInt (r.trim ());
+            System.out.println ();
+            // Waiter and signaller count towards the ratio; load threads make up the rest.
+            Thread [] load = startLoad (ratio * CPUS - 2);
+            System.out.println ("wake-up latency, " + (load.length + 2) + " runnable threads on " + CPUS
+                    + " CPUs, a post every " + gapNanos / 1000 + " us:");
+            try{
+                for (Wait w : Wait.values ()){
+                    LatencyHistogram h = wakeUp (w, signals, gapNanos);
+                    // A post overwritten before the waiter looked is missed, not late.
+                    System.out.println (String.format ("  %-12s ", w) + h.summary (1000, "us")
+                            + ", missed " + (sent - h.count ()) + " of " + sent);
+                }
+            } finally {
+                stopLoad (load);
+            }
+        }
+
+        for (String r : ratios){
+            int ratio = Integer.parseInt (r.trim ());
+            System.out.println ();
+            System.out.println ("time-slice fairness, " + ratio * CPUS + " CalculationThreads on " + CPUS + " CPUs:");
+            fairness (ratio * CPUS, fairnessSeconds);
+        }
+    }
+
+    static void callCost (){
+        Object lock = new Object ();
+        report ("yield", 20000, Thread::yield);
+        report ("onSpinWait", 20000, Thread::onSpinWait);
+        report ("parkNanos(1)", 20000, () -> LockSupport.parkNanos (1));
+        report ("sleep(0)", 20000, () -> sleep (0));
+        report ("sleep(1)", 500, () -> sleep (1));
+        // A timed wait nobody notifies: the monitor round trip plus the timer.
+        report ("wait(1)", 500, () -> {
+            synchronized (lock){
+                try{
+                    lock.wait (1);
+                } catch (InterruptedException e){
+                    Thread.currentThread ().interrupt ();
+                }
+            }
+        });
+    }
+
+    private static void report (String name, int calls, Runnable call){
+        LatencyHistogram h = new LatencyHistogram ();
+        for (int i = 0; i < calls / 10; i++)
+            call.run ();
+        for (int i = 0; i < calls; i++){
+            long start = System.nanoTime ();
+            call.run ();
+            h.record (System.nanoTime () - start);
+        }
+        System.out.println (String.format ("  %-12s ", name) + h.summary (1000, "us"));
+    }
+
+    /** The signaller posts nanoTime after every gap; the waiter records how late it noticed each post. */
+    static LatencyHistogram wakeUp (Wait mode, int signals, long gapNanos) throws InterruptedException {
+        LatencyHistogram h = new LatencyHistogram ();
+        Object lock = new Object ();
+        posted = 0;
+        stop = false;
+
+        Thread waiter = new Thread (() -> {
+            long seen = 0;
+            while (!stop){
+                long p;
+                while ((p = posted) == seen && !stop){
+                    switch (mode){
+                        case SPIN:
+                            Thread.onSpinWait ();
+                            break;
+                        case YIELD:
+                            Thread.yield ();
+                            break;
+                        case SLEEP_0:
+                            sleep (0);
+                            break;
+                        case SLEEP_1:
+                            sleep (1);
+                            break;
+                        case PARK:
+                            LockSupport.park ();
+                            break;
+                        case WAIT_NOTIFY:
+                            synchronized (lock){
+                                if (posted == seen && !stop)
+                                    try{
+                                        lock.wait ();
+                                    } catch (InterruptedException e){
+                                        return;
+                                    }
+                            }
+                            break;
+                    }
+                }
+                if (p != seen && !stop)
+                    h.record (System.nanoTime () - p);
+                seen = p;
+            }
+        }, "waiter-" + mode);
+        waiter.start ();
+
+        long end = System.nanoTime () + MAX_RUN_NANOS;
+        sent = 0;
+        for (int i = 0; i < signals && System.nanoTime () < end; i++){
+            LockSupport.parkNanos (gapNanos);
+            post (mode, lock, waiter, System.nanoTime ());
+            sent++;
+        }
+        stop = true;
+        post (mode, lock, waiter, System.nanoTime ());
+        waiter.join ();
+        return h;
+    }
+
+    private static void post (Wait mode, Object lock, Thread waiter, long now){
+        if (mode == Wait.WAIT_NOTIFY){
+            synchronized (lock){
+                posted = now;
+                lock.notify ();
+            }
+        } else {
+            posted = now;
+            if (mode == Wait.PARK)
+                LockSupport.unpark (waiter);
+        }
+    }
+
+    static void fairness (int threads, int seconds) throws InterruptedException {
+        LatencyHistogram iterations = new LatencyHistogram ();
+        long [] counts = new long [threads];
+        long end = System.nanoTime () + TimeUnit.SECONDS.toNanos (seconds);
+        CalculationThread [] calcs = new CalculationThread [threads];
+        for (int t = 0; t < threads; t++){
+            int slot = t;
+            calcs [t] = new CalculationThread ("calc-" + t) {
+                @Override
+                public void run (){
+                    long n = 0;
+                    long last = System.nanoTime ();
+                    while (last < end){
+                        sink = Double.doubleToRawLongBits (calcPI ());
+                        long now = System.nanoTime ();
+                        iterations.record (now - last);
+                        last = now;
+                        n++;
+                    }
+                    counts [slot] = n;
+                }
+            };
+        }
+        for (CalculationThread c : calcs)
+            c.start ();
+        for (CalculationThread c : calcs)
+            c.join ();
+
+        double sum = 0;
+        double squares = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (long c : counts){
+            sum += c;
+            squares += (double) c * c;
+            min = Math.min (min, c);
+            max = Math.max (max, c);
+        }
+        System.out.println (String.format ("  iterations: total %.0f, min %d, max %d, min/max %.3f, Jain's index %.4f",
+                sum, min, max, max == 0 ? 0.0 : (double) min / max, squares == 0 ? 0.0 : sum * sum / (threads * squares)));
+        System.out.println ("  iteration:  " + iterations.summary (1000, "us"));
+    }
+
+    private static Thread [] startLoad (int count){
+        loadStop = false;
+        Thread [] load = new Thread [Math.max (0, count)];
+        for (int i = 0; i < load.length; i++){
+            load [i] = new Thread (() -> {
+                long x = 0;
+                while (!loadStop)
+                    x++;
+                sink = x;
+            }, "load-" + i);
+            load [i].setDaemon (true);
+            load [i].start ();
+        }
+        return load;
+    }
+
+    private static void stopLoad (Thread [] load) throws InterruptedException {
+        loadStop = true;
+        for (Thread t : load)
+            t.join ();
+    }
+
+    private static void sleep (long millis){
+        try{
+            Thread.sleep (millis);
+        } catch (InterruptedException e){
+            Thread.currentThread ().interrupt ();
+        }
+    }
+}
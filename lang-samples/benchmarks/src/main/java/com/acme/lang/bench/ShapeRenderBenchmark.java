@@ -0,0 +1,90 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.render.ShapeRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shapes per second for the 30x10 rectangle of RunnableSample: the original
+ * print(char) loop on a PrintStream wired like System.out, the renderer writing
+ * once per shape, and the renderer batching many shapes per write.
+ * All three sink into /dev/null, so only the JVM side of the cost is compared.
+ */
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Thread)
+public class ShapeRenderBenchmark {
+
+    private static final int WIDTH = 30;
+    private static final int HEIGHT = 10;
+
+    private PrintStream printStream;
+    private FileChannel channel;
+    private ShapeRenderer perShape;
+    private ShapeRenderer batched;
+
+    @Setup (Level.Trial)
+    public void setUp () throws IOException {
+        printStream = new PrintStream (new BufferedOutputStream (new FileOutputStream ("/dev/null"), 8192), true);
+        channel = FileChannel.open (Paths.get ("/dev/null"), StandardOpenOption.WRITE);
+        perShape = new ShapeRenderer (channel, ShapeRenderer.DEFAULT_CAPACITY, false);
+        batched = new ShapeRenderer (channel, ShapeRenderer.DEFAULT_CAPACITY, true);
+    }
+
+    @TearDown (Level.Trial)
+    public void tearDown () throws IOException {
+        batched.flush ();
+        channel.close ();
+        printStream.close ();
+    }
+
+    @Benchmark
+    public void printPerChar (){
+        PrintStream out = printStream;
+        for (int c = 0; c < WIDTH; c++)
+            out.print ('*');
+        out.print ('\n');
+        for (int r = 0; r < HEIGHT - 2; r++){
+            out.print ('*');
+            for (int c = 0; c < WIDTH - 2; c++)
+                out.print (' ');
+            out.print ('*');
+            out.print ('\n');
+        }
+        for (int c = 0; c < WIDTH; c++)
+            out.print ('*');
+        out.print ('\n');
+    }
+
+    @Benchmark
+    public void rendererPerShape () throws IOException {
+        perShape.rectangle (WIDTH, HEIGHT);
+    }
+
+    @Benchmark
+    public void rendererBatched () throws IOException {
+        batched.rectangle (WIDTH, HEIGHT);
+    }
+}
@@ -0,0 +1,156 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.io.ShareReader;
+import com.acme.lang.io.ShareWriter;
+import com.acme.lang.model.LockShared;
+import com.acme.lang.model.RingShared;
+import com.acme.lang.model.Share;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.function.LongSupplier;
+
+/**
+ * Chars per second and nanoseconds per char when the same stream goes through a
+ * Share one char per call, in bulk with setSharedChars/drainTo at growing chunk
+ * sizes, and through the ShareWriter/ShareReader adapters. The consumer always
+ * drains up to the chunk size, so the bulk rows show how the synchronization
+ * cost is spread over each transferred run.
+ * <p>
+ * Standalone for the same reason as ShareThroughputBenchmark. Run with
+ * {@code java -cp benchmarks.jar com.acme.lang.bench.ShareBulkBenchmark [chars]}.
+ */
+public class ShareBulkBenchmark {
+
+    interface Transfer {
+        double run (Share s, int chars, int chunk) throws InterruptedException;
+    }
+
+    public static void main (String [] args) throws InterruptedException {
+        int chars = args.length == 0 ? 20000000 : Integer.parseInt (args [0]);
+
+        System.out.println ("share              mode            chunk   Mchars/s    ns/char");
+        report ("LockShared", "per char", 1, chars / 50, ShareBulkBenchmark::perChar, false);
+        report ("LockShared", "bulk", 256, chars / 50, ShareBulkBenchmark::bulk, false);
+        report ("RingShared(4096)", "per char", 1, chars, ShareBulkBenchmark::perChar, true);
+        for (int chunk = 16; chunk <= 4096; chunk *= 4)
+            report ("RingShared(4096)", "bulk", chunk, chars, ShareBulkBenchmark::bulk, true);
+        report ("RingShared(4096)", "writer/reader", 4096, chars, ShareBulkBenchmark::adapters, true);
+    }
+
+    static void report (String name, String mode, int chunk, int chars, Transfer transfer, boolean ring)
+            throws InterruptedException {
+        double best = 0;
+        // One warmup run, then the best of three.
+        for (int r = 0; r < 4; r++){
+            double rate = transfer.run (ring ? new RingShared (4096) : new LockShared (), chars, chunk);
+            if (r > 0)
+                best = Math.max (best, rate);
+        }
+        System.out.println (String.format ("%-18s %-14s %6d %10.2f %10.2f", name, mode, chunk, best / 1e6, 1e9 / best));
+    }
+
+    static double perChar (Share s, int chars, int chunk) throws InterruptedException {
+        return time (() -> {
+            long sum = 0;
+            for (int i = 0; i < chars; i++){
+                char c = (char) ('A' + i % 26);
+                s.setSharedChar (c);
+                sum += c;
+            }
+            return sum;
+        }, () -> {
+            long sum = 0;
+            for (int i = 0; i < chars; i++)
+                sum += s.getSharedChar ();
+            return sum;
+        }, chars);
+    }
+
+    static double bulk (Share s, int chars, int chunk) throws InterruptedException {
+        return time (() -> {
+            char [] src = alphabet (chunk);
+            long sum = 0;
+            for (int sent = 0; sent < chars; sent += chunk){
+                int n = Math.min (chunk, chars - sent);
+                s.setSharedChars (src, 0, n);
+                sum += sum (src, n);
+            }
+            return sum;
+        }, () -> {
+            CharBuffer dst = CharBuffer.allocate (chunk);
+            long sum = 0;
+            for (int received = 0; received < chars; ){
+                dst.clear ();
+                int n = s.drainTo (dst, Math.min (chunk, chars - received));
+                for (int i = 0; i < n; i++)
+                    sum += dst.get (i);
+                received += n;
+            }
+            return sum;
+        }, chars);
+    }
+
+    static double adapters (Share s, int chars, int chunk) throws InterruptedException {
+        return time (() -> {
+            char [] src = alphabet (chunk);
+            long sum = 0;
+            try (ShareWriter w = new ShareWriter (s)){
+                for (int sent = 0; sent < chars; sent += chunk){
+                    int n = Math.min (chunk, chars - sent);
+                    w.write (src, 0, n);
+                    sum += sum (src, n);
+                }
+            } catch (IOException e){
+                throw new UncheckedIOException (e);
+            }
+            return sum;
+        }, () -> {
+            char [] dst = new char [chunk];
+            long sum = 0;
+            long received = 0;
+            int n;
+            try (ShareReader r = new ShareReader (s)){
+                while ((n = r.read (dst, 0, dst.length)) > 0){
+                    for (int i = 0; i < n; i++)
+                        sum += dst [i];
+                    received += n;
+                }
+            }
+            if (received != chars)
+                throw new AssertionError ("read " + received + " of " + chars);
+            return sum;
+        }, chars);
+    }
+
+    private static char [] alphabet (int chunk){
+        char [] a = new char [chunk];
+        for (int i = 0; i < chunk; i++)
+            a [i] = (char) ('A' + i % 26);
+        return a;
+    }
+
+    private static long sum (char [] a, int n){
+        long sum = 0;
+        for (int i = 0; i < n; i++)
+            sum += a [i];
+        return sum;
+    }
+
+    // Both sides return a checksum of what they moved; a mismatch means chars were lost.
+    private static double time (LongSupplier producer, LongSupplier consumer, int chars) throws InterruptedException {
+        long [] sums = new long [2];
+        Thread p = new Thread (() -> sums [0] = producer.getAsLong (), "producer");
+        Thread c = new Thread (() -> sums [1] = consumer.getAsLong (), "consumer");
+        long start = System.nanoTime ();
+        p.start ();
+        c.start ();
+        p.join ();
+        c.join ();
+        long nanos = System.nanoTime () - start;
+        if (sums [0] != sums [1])
+            throw new AssertionError ("produced " + sums [0] + " but consumed " + sums [1]);
+        return chars * 1e9 / nanos;
+    }
+}
@@ -0,0 +1,76 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.model.LockShared;
+import com.acme.lang.model.MpmcShared;
+import com.acme.lang.model.Share;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Chars per second through a Share shared by N producers and M consumers, for
+ * every combination of 1, 2, 4, 8 and 16 threads a side, comparing the lock-free
+ * MpmcShared with the one-slot LockShared. UpShared is left out: with several
+ * threads per side its single notify() can wake a thread of the same side and
+ * leave everyone waiting.
+ * <p>
+ * Standalone for the same reason as ShareThroughputBenchmark. Run with
+ * {@code java -cp benchmarks.jar com.acme.lang.bench.ShareScalingBenchmark [chars] [maxThreads]}.
+ */
+public class ShareScalingBenchmark {
+
+    public static void main (String [] args) throws InterruptedException {
+        int chars = args.length == 0 ? 1000000 : Integer.parseInt (args [0]);
+        int maxThreads = args.length < 2 ? 16 : Integer.parseInt (args [1]);
+
+        System.out.println (Runtime.getRuntime ().availableProcessors () + " CPUs, " + chars + " chars per run");
+        System.out.println ("producers consumers   MpmcShared Mchars/s   LockShared Mchars/s");
+        // Warmup, not reported.
+        stream (() -> new MpmcShared (1024), 2, 2, chars);
+        stream (LockShared::new, 2, 2, chars / 10);
+        for (int p = 1; p <= maxThreads; p *= 2)
+            for (int c = 1; c <= maxThreads; c *= 2){
+                double mpmc = stream (() -> new MpmcShared (1024), p, c, chars);
+                // The one-slot handoff is two orders of magnitude slower; a tenth of the chars keeps runs short.
+                double locked = stream (LockShared::new, p, c, chars / 10);
+                System.out.println (String.format ("%9d %9d %21.2f %21.2f", p, c, mpmc / 1e6, locked / 1e6));
+            }
+    }
+
+    static double stream (Supplier<Share> factory, int producers, int consumers, int chars) throws InterruptedException {
+        Share s = factory.get ();
+        LongAdder produced = new LongAdder ();
+        LongAdder consumed = new LongAdder ();
+        Thread [] threads = new Thread [producers + consumers];
+        for (int i = 0; i < producers; i++){
+            int n = chars / producers + (i < chars % producers ? 1 : 0);
+            threads [i] = new Thread (() -> {
+                long sum = 0;
+                for (int k = 0; k < n; k++){
+                    char ch = (char) ('A' + k % 26);
+                    s.setSharedChar (ch);
+                    sum += ch;
+                }
+                produced.add (sum);
+            }, "producer-" + i);
+        }
+        for (int i = 0; i < consumers; i++){
+            int n = chars / consumers + (i < chars % consumers ? 1 : 0);
+            threads [producers + i] = new Thread (() -> {
+                long sum = 0;
+                for (int k = 0; k < n; k++)
+                    sum += s.getSharedChar ();
+                consumed.add (sum);
+            }, "consumer-" + i);
+        }
+        long start = System.nanoTime ();
+        for (Thread t : threads)
+            t.start ();
+        for (Thread t : threads)
+            t.join ();
+        long nanos = System.nanoTime () - start;
+        if (produced.sum () != consumed.sum ())
+            throw new AssertionError ("produced " + produced.sum () + " but consumed " + consumed.sum ());
+        return chars * 1e9 / nanos;
+    }
+}
@@ -0,0 +1,75 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.model.LockShared;
+import com.acme.lang.model.RingShared;
+import com.acme.lang.model.Share;
+import com.acme.lang.model.UpShared;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Chars per second streamed from one producer to one consumer through each
+ * Share, with no sleeps: the handoff itself is all that is measured.
+ * <p>
+ * Not a JMH suite: a blocking Share cannot be stopped from a JMH group without
+ * leaving one side waiting, so each run moves a fixed number of chars and is
+ * timed end to end. Run with
+ * {@code java -cp benchmarks.jar com.acme.lang.bench.ShareThroughputBenchmark [chars] [runs]}.
+ */
+public class ShareThroughputBenchmark {
+
+    public static void main (String [] args) throws InterruptedException {
+        int chars = args.length == 0 ? 2000000 : Integer.parseInt (args [0]);
+        int runs = args.length < 2 ? 5 : Integer.parseInt (args [1]);
+
+        Map<String, Supplier<Share>> shares = new LinkedHashMap<> ();
+        shares.put ("UpShared", UpShared::new);
+        shares.put ("LockShared", LockShared::new);
+        shares.put ("RingShared(64)", () -> new RingShared (64));
+        shares.put ("RingShared(1024)", () -> new RingShared (1024));
+
+        System.out.println ("share                 best Mchars/s   mean Mchars/s");
+        for (Map.Entry<String, Supplier<Share>> e : shares.entrySet ()){
+            double best = 0;
+            double sum = 0;
+            // The first run is warmup and is not reported.
+            for (int r = 0; r <= runs; r++){
+                double rate = stream (e.getValue ().get (), chars);
+                if (r > 0){
+                    best = Math.max (best, rate);
+                    sum += rate;
+                }
+            }
+            System.out.println (String.format ("%-20s %16.2f %15.2f", e.getKey (), best / 1e6, sum / runs / 1e6));
+        }
+    }
+
+    static double stream (Share s, int chars) throws InterruptedException {
+        Thread producer = new Thread (() -> {
+            for (int i = 0; i < chars; i++)
+                s.setSharedChar ((char) ('A' + i % 26));
+        }, "producer");
+        long [] checksum = new long [1];
+        Thread consumer = new Thread (() -> {
+            long sum = 0;
+            for (int i = 0; i < chars; i++)
+                sum = sum * 31 + s.getSharedChar ();
+            checksum [0] = sum;
+        }, "consumer");
+        long start = System.nanoTime ();
+        producer.start ();
+        consumer.start ();
+        producer.join ();
+        consumer.join ();
+        long nanos = System.nanoTime () - start;
+        // Order-sensitive, so a lost, duplicated or reordered char fails the run.
+        long expected = 0;
+        for (int i = 0; i < chars; i++)
+            expected = expected * 31 + (char) ('A' + i % 26);
+        if (checksum [0] != expected)
+            throw new AssertionError ("checksum " + checksum [0] + ", expected " + expected);
+        return chars * 1e9 / nanos;
+    }
+}
@@ -0,0 +1,84 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.model.LockShared;
+import com.acme.lang.model.ParkShared;
+import com.acme.lang.model.Share;
+import com.acme.lang.model.UpShared;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One-slot handoff between the benchmark thread and a helper thread: the
+ * monitor-based UpShared, LockShared and the park/unpark ParkShared. SampleTime
+ * gives the round-trip p50/p99. The helper is stopped with a sentinel char rather
+ * than by interrupting it, which UpShared and LockShared would ignore.
+ */
+@BenchmarkMode ({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Thread)
+public class SharedHandoffBenchmark {
+
+    private static final char STOP = '\uffff';
+
+    @Param ({"UpShared", "LockShared", "ParkShared"})
+    public String share;
+
+    private Share ping;
+    private Share pong;
+    private Thread helper;
+
+    @Setup (Level.Trial)
+    public void setUp (){
+        ping = create (share);
+        pong = create (share);
+        helper = new Thread (() -> {
+            char c;
+            while ((c = ping.getSharedChar ()) != STOP)
+                pong.setSharedChar (c);
+        }, "pong");
+        helper.setDaemon (true);
+        helper.start ();
+    }
+
+    @TearDown (Level.Trial)
+    public void tearDown () throws InterruptedException {
+        ping.setSharedChar (STOP);
+        helper.join ();
+    }
+
+    // One set/get pair answered by the helper: a full round trip through two handoffs.
+    @Benchmark
+    public char roundTrip (){
+        ping.setSharedChar ('A');
+        return pong.getSharedChar ();
+    }
+
+    private static Share create (String name){
+        switch (name){
+            case "UpShared":
+                return new UpShared ();
+            case "LockShared":
+                return new LockShared ();
+            case "ParkShared":
+                return new ParkShared ();
+            default:
+                throw new IllegalArgumentException ("unknown share: " + name);
+        }
+    }
+}
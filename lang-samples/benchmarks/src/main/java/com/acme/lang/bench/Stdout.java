@@ -0,0 +1,28 @@
+package com.acme.lang.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+// The samples print from inside their critical sections; benchmarks keep the
+// formatting and PrintStream locking but discard the bytes.
+final class Stdout {
+
+    private static PrintStream saved;
+
+    private Stdout (){
+    }
+
+    static synchronized void discard (){
+        if (saved == null){
+            saved = System.out;
+            System.setOut (new PrintStream (OutputStream.nullOutputStream ()));
+        }
+    }
+
+    static synchronized void restore (){
+        if (saved != null){
+            System.setOut (saved);
+            saved = null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.acme.lang.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ThreadLocal.get() set up the way InitLocalThread (thread-groups) does it: a static
+ * raw ThreadLocal whose synchronized initialValue() hands out serial numbers.
+ * Only the first get() per thread reaches initialValue(); the rest are map lookups.
+ */
+@BenchmarkMode ({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Benchmark)
+public class ThreadLocalBenchmark {
+
+    private static int sernum = 100;
+
+    private static final ThreadLocal tl = new ThreadLocal (){
+        @Override
+        protected synchronized Object initialValue (){
+            return Integer.valueOf (sernum++);
+        }
+    };
+
+    @Benchmark
+    @Threads (1)
+    public Object get1 (){
+        return tl.get ();
+    }
+
+    @Benchmark
+    @Threads (4)
+    public Object get4 (){
+        return tl.get ();
+    }
+}
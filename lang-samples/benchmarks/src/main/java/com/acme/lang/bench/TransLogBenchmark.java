@@ -0,0 +1,90 @@
+package com.acme.lang.bench;
+
+import com.acme.lang.sync.log.AsyncTransLog;
+import com.acme.lang.sync.log.ConsoleTransLog;
+import com.acme.lang.sync.model.FinTrans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FinTrans.update with the line printed under the monitor, to a PrintStream wired
+ * like System.out over /dev/null, against the same update publishing into an
+ * AsyncTransLog. With one thread the sample time is the lock hold time; with
+ * four it shows what the shorter hold does to contention.
+ */
+@BenchmarkMode ({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@Warmup (iterations = 5, time = 1)
+@Measurement (iterations = 5, time = 1)
+@Fork (1)
+@State (Scope.Benchmark)
+public class TransLogBenchmark {
+
+    private PrintStream savedOut;
+    private FileChannel channel;
+    private AsyncTransLog asyncLog;
+    private FinTrans console;
+    private FinTrans async;
+
+    @Setup (Level.Trial)
+    public void setUp () throws IOException {
+        savedOut = System.out;
+        System.setOut (new PrintStream (new BufferedOutputStream (new FileOutputStream ("/dev/null"), 8192), true));
+        channel = FileChannel.open (Paths.get ("/dev/null"), StandardOpenOption.WRITE);
+        asyncLog = new AsyncTransLog (channel, 64 * 1024);
+        console = new FinTrans (new ConsoleTransLog ());
+        async = new FinTrans (asyncLog);
+    }
+
+    @TearDown (Level.Trial)
+    public void tearDown () throws Exception {
+        asyncLog.close ();
+        channel.close ();
+        System.out.close ();
+        System.setOut (savedOut);
+    }
+
+    @Benchmark
+    @Threads (1)
+    public void console1 (){
+        console.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (1)
+    public void async1 (){
+        async.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (4)
+    public void console4 (){
+        console.update ("Deposit", 2000.0);
+    }
+
+    @Benchmark
+    @Threads (4)
+    public void async4 (){
+        async.update ("Deposit", 2000.0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.acme.lang;
+
+import com.acme.lang.census.CensusSnapshot;
+import com.acme.lang.census.ThreadCensus;
+import com.acme.lang.census.ThreadStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class CensusSample {
+
+    public static void main (String [] args) throws InterruptedException {
+        // Parked threads to make the census walk a realistic thread count.
+        int idle = args.length == 0 ? 1000 : Integer.parseInt (args [0]);
+        // A second argument of "user" adds user time, at the cost of a per-thread /proc read.
+        boolean userTime = args.length >= 2 && args [1].equals ("user");
+        CountDownLatch done = new CountDownLatch (1);
+        for (int i = 0; i < idle; i++){
+            Thread t = new Thread (() -> {
+                try{
+                    done.await ();
+                } catch (InterruptedException e) {}
+            }, "idle-" + i);
+            t.setDaemon (true);
+            t.start ();
+        }
+
+        Thread busy = new Thread (() -> {
+            List<long []> garbage = new ArrayList<> ();
+            while (done.getCount () > 0){
+                garbage.add (new long [1024]);
+                if (garbage.size () > 1000)
+                    garbage.clear ();
+            }
+        }, "busy");
+        busy.start ();
+
+        try (ThreadCensus census = new ThreadCensus (60, userTime)){
+            census.start (1, TimeUnit.SECONDS);
+            for (int i = 0; i < 5; i++){
+                Thread.sleep (1000);
+                CensusSnapshot s = census.latest ();
+                System.out.println (s.threads.size () + " threads, sampled in "
+                        + s.samplingCpuNanos / 1000 + " us of CPU");
+                for (ThreadStats t : s.topByCpu (3))
+                    System.out.println ("  " + t);
+            }
+        }
+        done.countDown ();
+    }
+}
@@ -0,0 +1,23 @@
+package com.acme.lang;
+
+import com.acme.lang.pi.ChudnovskyPi;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class ChudnovskyCalcPi {
+
+    public static void main (String [] args) throws IOException {
+        int digits = args.length == 0 ? 1000000 : Integer.parseInt (args [0]);
+        Path file = Paths.get (args.length < 2 ? "pi.txt" : args [1]);
+
+        long start = System.nanoTime ();
+        ChudnovskyPi.write (digits, file);
+        long millis = (System.nanoTime () - start) / 1000000;
+
+        Runtime rt = Runtime.getRuntime ();
+        System.out.println (digits + " digits of pi written to " + file.toAbsolutePath () + " in " + millis + " ms");
+        System.out.println ("heap used = " + (rt.totalMemory () - rt.freeMemory ()) / (1024 * 1024) + " MB");
+    }
+}
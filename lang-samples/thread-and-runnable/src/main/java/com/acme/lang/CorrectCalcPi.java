@@ -1,5 +1,7 @@
 package com.acme.lang;
 
+import com.acme.lang.thread.CalcThread;
+
 public class CorrectCalcPi {
 
     public static void main (String [] args)
@@ -0,0 +1,70 @@
+package com.acme.lang;
+
+import com.acme.lang.pi.LeibnizPi;
+import com.acme.lang.pi.PiCalculator;
+import com.acme.lang.thread.CalcThread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class FutureCalcPi {
+
+    public static void main (String [] args) throws Exception {
+        int runs = args.length == 0 ? 20 : Integer.parseInt (args [0]);
+
+        // Same observation as CorrectCalcPi: start the thread, poll isAlive() every 10 ms.
+        long pollNanos = 0;
+        for (int i = 0; i < runs; i++){
+            long start = System.nanoTime ();
+            CalcThread mt = new CalcThread ();
+            mt.start ();
+            while (mt.isAlive ())
+                try
+                {
+                    Thread.sleep (10);
+                }
+                catch (InterruptedException e)
+                {
+                }
+            pollNanos += System.nanoTime () - start;
+        }
+
+        // Daemon workers: a timed-out calculation keeps running and must not hold the JVM open.
+        ExecutorService pool = Executors.newFixedThreadPool (Runtime.getRuntime ().availableProcessors (), r -> {
+            Thread t = new Thread (r);
+            t.setDaemon (true);
+            return t;
+        });
+        try {
+            PiCalculator calculator = new PiCalculator (pool);
+            for (int i = 0; i < runs; i++)
+                calculator.calcPi (LeibnizPi.DEFAULT_TERMS).get ();
+
+            System.out.println ("isAlive polling: mean " + pollNanos / runs / 1000 + " us");
+            System.out.println ("future:          mean " + calculator.meanLatencyNanos () / 1000 + " us, max "
+                    + calculator.maxLatencyNanos () / 1000 + " us");
+
+            calculator.calcPi (LeibnizPi.DEFAULT_TERMS)
+                    .thenAccept (pi -> System.out.println ("callback: pi = " + pi))
+                    .join ();
+
+            List<CompletableFuture<Double>> futures = new ArrayList<> ();
+            for (long terms = 10; terms <= 10000000; terms *= 10)
+                futures.add (calculator.calcPi (terms));
+            System.out.println ("combined: " + PiCalculator.allOf (futures).join ());
+
+            calculator.calcPi (10000000000L, 50, TimeUnit.MILLISECONDS)
+                    .exceptionally (e -> {
+                        System.out.println ("10^10 terms did not finish in 50 ms: " + e);
+                        return Double.NaN;
+                    })
+                    .join ();
+        } finally {
+            pool.shutdownNow ();
+        }
+    }
+}
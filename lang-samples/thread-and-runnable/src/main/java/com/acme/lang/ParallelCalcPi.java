@@ -0,0 +1,23 @@
+package com.acme.lang;
+
+import com.acme.lang.pi.LeibnizPi;
+
+public class ParallelCalcPi {
+
+    public static void main (String [] args){
+        long terms = args.length == 0 ? 1000000000L : Long.parseLong (args [0]);
+
+        long start = System.nanoTime ();
+        double seq = LeibnizPi.sequential (terms);
+        long seqNanos = System.nanoTime () - start;
+
+        start = System.nanoTime ();
+        double par = LeibnizPi.parallel (terms);
+        long parNanos = System.nanoTime () - start;
+
+        System.out.println ("terms = " + terms + ", cores = " + Runtime.getRuntime ().availableProcessors ());
+        System.out.println ("sequential pi = " + seq + " in " + seqNanos / 1000000 + " ms");
+        System.out.println ("parallel   pi = " + par + " in " + parNanos / 1000000 + " ms");
+        System.out.println ("speedup = " + (double) seqNanos / parNanos);
+    }
+}
@@ -1,6 +1,9 @@
 package com.acme.lang;
 
+import com.acme.lang.render.ShapeRenderer;
+
 import java.applet.Applet;
+import java.io.IOException;
 
 public class RunnableSample extends Applet implements Runnable{
 
@@ -8,6 +11,15 @@ public class RunnableSample extends Applet implements Runnable{
 
     @Override
     public void run (){
+        // Shapes are batched and leave in buffer-sized writes rather than one print per char.
+        ShapeRenderer renderer = ShapeRenderer.stdout (true);
+        try{
+            draw (renderer);
+            renderer.flush ();
+        } catch (IOException e) {}
+    }
+
+    private void draw (ShapeRenderer renderer) throws IOException {
         while (t == Thread.currentThread ()){
             int width = rnd (30);
             if (width < 2){
@@ -19,7 +31,7 @@ public class RunnableSample extends Applet implements Runnable{
                 height += 2;
             }
 
-            draw (width, height);
+            renderer.rectangle (width, height);
         }
     }
 
@@ -38,30 +50,6 @@ public class RunnableSample extends Applet implements Runnable{
         }
     }
 
-    private void draw (int width, int height){
-        for (int c = 0; c < width; c++){
-            System.out.print ('*');
-        }
-
-        System.out.print ('\n');
-
-        for (int r = 0; r < height - 2; r++){
-            System.out.print ('*');
-
-            for (int c = 0; c < width - 2; c++){
-                System.out.print (' ');
-            }
-
-            System.out.print ('*');
-            System.out.print ('\n');
-        }
-
-        for (int c = 0; c < width; c++){
-            System.out.print ('*');
-        }
-        System.out.print ('\n');
-    }
-
     private int rnd (int limit){
         // Return a random number x in the range 0 <= x < limit.
         return (int) (Math.random () * limit);
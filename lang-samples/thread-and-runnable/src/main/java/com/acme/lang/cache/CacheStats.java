@@ -0,0 +1,34 @@
+package com.acme.lang.cache;
+
+/** Counters of a MemoCache at one point in time. A hit includes waiting for another caller's load. */
+public final class CacheStats {
+
+    public final long hits;
+    public final long misses;
+    public final long loadFailures;
+    public final long totalLoadNanos;
+    public final long evictions;
+
+    public CacheStats (long hits, long misses, long loadFailures, long totalLoadNanos, long evictions){
+        this.hits = hits;
+        this.misses = misses;
+        this.loadFailures = loadFailures;
+        this.totalLoadNanos = totalLoadNanos;
+        this.evictions = evictions;
+    }
+
+    public double hitRate (){
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    public double meanLoadNanos (){
+        return misses == 0 ? 0.0 : (double) totalLoadNanos / misses;
+    }
+
+    @Override
+    public String toString (){
+        return String.format ("hits=%d misses=%d hitRate=%.3f loadFailures=%d meanLoad=%.1f us evictions=%d",
+                hits, misses, hitRate (), loadFailures, meanLoadNanos () / 1000, evictions);
+    }
+}
@@ -0,0 +1,121 @@
+package com.acme.lang.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Size-bounded memoizing cache with single-flight loading. The first caller of
+ * a missing key runs the loader; callers that arrive while it runs wait for the
+ * same result instead of computing it again. Entries live in an access-ordered
+ * LinkedHashMap, so the least recently used one is evicted once there are more
+ * than {@code maximumSize}. The map is guarded by its own monitor, held only for
+ * the lookup, never while a value is computed.
+ * <p>
+ * A failed load is not cached: its callers get the exception, and the next get
+ * tries again.
+ */
+public class MemoCache<K, V> {
+
+    private final int maximumSize;
+    private final Map<K, CompletableFuture<V>> entries;
+
+    private final LongAdder hits = new LongAdder ();
+    private final LongAdder misses = new LongAdder ();
+    private final LongAdder loadFailures = new LongAdder ();
+    private final LongAdder loadNanos = new LongAdder ();
+    private final LongAdder evictions = new LongAdder ();
+
+    public MemoCache (int maximumSize){
+        if (maximumSize < 1)
+            throw new IllegalArgumentException ("maximumSize must be positive: " + maximumSize);
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<K, CompletableFuture<V>> (16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry (Map.Entry<K, CompletableFuture<V>> eldest){
+                if (size () <= MemoCache.this.maximumSize)
+                    return false;
+                evictions.increment ();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * The value for {@code key}, computed by {@code loader} on this thread if no
+     * other caller has computed it or is computing it. An exception thrown by the
+     * loader reaches every caller waiting for that load.
+     */
+    public V get (K key, Supplier<? extends V> loader){
+        CompletableFuture<V> created = null;
+        CompletableFuture<V> f;
+        synchronized (entries){
+            f = entries.get (key);
+            if (f == null){
+                f = created = new CompletableFuture<> ();
+                entries.put (key, f);
+            }
+        }
+        if (created == null){
+            hits.increment ();
+            try{
+                return f.join ();
+            } catch (CompletionException e){
+                throw rethrow (e.getCause ());
+            }
+        }
+
+        misses.increment ();
+        long start = System.nanoTime ();
+        try{
+            V value = loader.get ();
+            loadNanos.add (System.nanoTime () - start);
+            created.complete (value);
+            return value;
+        } catch (RuntimeException | Error e){
+            loadNanos.add (System.nanoTime () - start);
+            loadFailures.increment ();
+            synchronized (entries){
+                entries.remove (key, created);
+            }
+            created.completeExceptionally (e);
+            throw e;
+        }
+    }
+
+    /** The value if it is cached and loaded, else null; does not count as a hit or miss. */
+    public V getIfPresent (K key){
+        CompletableFuture<V> f;
+        synchronized (entries){
+            f = entries.get (key);
+        }
+        return f != null && f.isDone () && !f.isCompletedExceptionally () ? f.join () : null;
+    }
+
+    public int size (){
+        synchronized (entries){
+            return entries.size ();
+        }
+    }
+
+    public void invalidateAll (){
+        synchronized (entries){
+            entries.clear ();
+        }
+    }
+
+    public CacheStats stats (){
+        return new CacheStats (hits.sum (), misses.sum (), loadFailures.sum (), loadNanos.sum (), evictions.sum ());
+    }
+
+    private static RuntimeException rethrow (Throwable t){
+        if (t instanceof RuntimeException)
+            return (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+        return new CompletionException (t);
+    }
+}
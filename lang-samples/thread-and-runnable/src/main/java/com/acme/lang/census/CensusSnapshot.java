@@ -0,0 +1,38 @@
+package com.acme.lang.census;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/** All live threads at one sampling instant, plus what taking the sample cost. */
+public final class CensusSnapshot {
+
+    public final long timestampNanos;
+    // Wall time since the previous sample, 0 for the first one.
+    public final long intervalNanos;
+    // CPU time the sampling thread spent building this snapshot.
+    public final long samplingCpuNanos;
+    public final List<ThreadStats> threads;
+
+    CensusSnapshot (long timestampNanos, long intervalNanos, long samplingCpuNanos, List<ThreadStats> threads){
+        this.timestampNanos = timestampNanos;
+        this.intervalNanos = intervalNanos;
+        this.samplingCpuNanos = samplingCpuNanos;
+        this.threads = Collections.unmodifiableList (threads);
+    }
+
+    /** The {@code n} threads that burned the most CPU since the previous sample. */
+    public List<ThreadStats> topByCpu (int n){
+        List<ThreadStats> sorted = new ArrayList<> (threads);
+        sorted.sort (Comparator.comparingLong ((ThreadStats t) -> t.cpuNanosDelta).reversed ());
+        return sorted.subList (0, Math.min (n, sorted.size ()));
+    }
+
+    /** The {@code n} threads that allocated the most bytes since the previous sample. */
+    public List<ThreadStats> topByAllocation (int n){
+        List<ThreadStats> sorted = new ArrayList<> (threads);
+        sorted.sort (Comparator.comparingLong ((ThreadStats t) -> t.allocatedBytesDelta).reversed ());
+        return sorted.subList (0, Math.min (n, sorted.size ()));
+    }
+}
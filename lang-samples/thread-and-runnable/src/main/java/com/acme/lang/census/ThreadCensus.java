@@ -0,0 +1,171 @@
+package com.acme.lang.census;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodic thread census. Unlike Census and EnumerateThreadsSample, which size an
+ * array by activeCount() and race against threads starting in between, it asks
+ * ThreadMXBean for every live thread id and reads CPU time, user time, allocated
+ * bytes, state and blocked/waited counts, using the bulk per-array calls of
+ * com.sun.management.ThreadMXBean when present. No stacks are taken.
+ * <p>
+ * The last {@code historySize} snapshots are kept in a ring; older ones are dropped.
+ * <p>
+ * On Linux user time is read from /proc per thread and dominates the sampling
+ * cost (roughly 10 us a thread against about 1 us for everything else), so it
+ * is off unless asked for; its fields then read -1.
+ */
+public class ThreadCensus implements AutoCloseable {
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean ();
+    private final com.sun.management.ThreadMXBean extended;
+    private final boolean userTime;
+    private final CensusSnapshot [] ring;
+    private int next;
+    private int size;
+    private CensusSnapshot last;
+    private ScheduledExecutorService scheduler;
+
+    public ThreadCensus (int historySize){
+        this (historySize, false);
+    }
+
+    public ThreadCensus (int historySize, boolean userTime){
+        if (historySize < 1)
+            throw new IllegalArgumentException ("historySize must be positive: " + historySize);
+        ring = new CensusSnapshot [historySize];
+        this.userTime = userTime;
+        extended = threads instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threads : null;
+        if (threads.isThreadCpuTimeSupported () && !threads.isThreadCpuTimeEnabled ())
+            threads.setThreadCpuTimeEnabled (true);
+        if (extended != null && extended.isThreadAllocatedMemorySupported ()
+                && !extended.isThreadAllocatedMemoryEnabled ())
+            extended.setThreadAllocatedMemoryEnabled (true);
+    }
+
+    public synchronized void start (long period, TimeUnit unit){
+        if (scheduler != null)
+            throw new IllegalStateException ("census already started");
+        scheduler = Executors.newSingleThreadScheduledExecutor (r -> {
+            Thread t = new Thread (r, "thread-census");
+            t.setDaemon (true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate (this::scheduledSample, 0, period, unit);
+    }
+
+    /** Takes one sample now, adds it to the history and returns it. */
+    public CensusSnapshot sample (){
+        long cpuBefore = threads.getCurrentThreadCpuTime ();
+        long [] ids = threads.getAllThreadIds ();
+        ThreadInfo [] infos = threads.getThreadInfo (ids, 0);
+        long [] cpu = cpuTimes (ids);
+        long [] user = userTimes (ids);
+        long [] alloc = allocatedBytes (ids);
+        long now = System.nanoTime ();
+
+        Map<Long, ThreadStats> previous = previousById ();
+        List<ThreadStats> stats = new ArrayList<> (ids.length);
+        for (int i = 0; i < ids.length; i++){
+            ThreadInfo info = infos [i];
+            if (info == null)
+                continue; // died between getAllThreadIds and getThreadInfo
+            stats.add (new ThreadStats (ids [i], info.getThreadName (), info.getThreadState (), cpu [i], user [i],
+                    alloc [i], info.getBlockedCount (), info.getWaitedCount (), previous.get (ids [i])));
+        }
+
+        synchronized (this){
+            long interval = last == null ? 0 : now - last.timestampNanos;
+            long cost = cpuBefore < 0 ? -1 : threads.getCurrentThreadCpuTime () - cpuBefore;
+            CensusSnapshot snapshot = new CensusSnapshot (now, interval, cost, stats);
+            ring [next] = snapshot;
+            next = (next + 1) % ring.length;
+            size = Math.min (size + 1, ring.length);
+            last = snapshot;
+            return snapshot;
+        }
+    }
+
+    // An exception escaping a fixed-rate task cancels every later run, so one bad sample must not.
+    private void scheduledSample (){
+        try{
+            sample ();
+        } catch (RuntimeException e){
+            e.printStackTrace ();
+        }
+    }
+
+    public synchronized CensusSnapshot latest (){
+        return last;
+    }
+
+    /** Retained snapshots, oldest first. */
+    public synchronized List<CensusSnapshot> history (){
+        List<CensusSnapshot> result = new ArrayList<> (size);
+        for (int i = 0; i < size; i++)
+            result.add (ring [(next - size + i + ring.length) % ring.length]);
+        return result;
+    }
+
+    @Override
+    public synchronized void close (){
+        if (scheduler != null){
+            scheduler.shutdownNow ();
+            scheduler = null;
+        }
+    }
+
+    private synchronized Map<Long, ThreadStats> previousById (){
+        if (last == null)
+            return new HashMap<> ();
+        Map<Long, ThreadStats> byId = new HashMap<> (last.threads.size () * 2);
+        for (ThreadStats t : last.threads)
+            byId.put (t.id, t);
+        return byId;
+    }
+
+    private long [] cpuTimes (long [] ids){
+        if (!threads.isThreadCpuTimeSupported ())
+            return filled (ids.length);
+        if (extended != null)
+            return extended.getThreadCpuTime (ids);
+        long [] result = new long [ids.length];
+        for (int i = 0; i < ids.length; i++)
+            result [i] = threads.getThreadCpuTime (ids [i]);
+        return result;
+    }
+
+    private long [] userTimes (long [] ids){
+        if (!userTime || !threads.isThreadCpuTimeSupported ())
+            return filled (ids.length);
+        if (extended != null)
+            return extended.getThreadUserTime (ids);
+        long [] result = new long [ids.length];
+        for (int i = 0; i < ids.length; i++)
+            result [i] = threads.getThreadUserTime (ids [i]);
+        return result;
+    }
+
+    private long [] allocatedBytes (long [] ids){
+        if (extended == null || !extended.isThreadAllocatedMemorySupported ())
+            return filled (ids.length);
+        return extended.getThreadAllocatedBytes (ids);
+    }
+
+    private static long [] filled (int n){
+        long [] result = new long [n];
+        Arrays.fill (result, -1);
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+package com.acme.lang.census;
+
+/**
+ * One thread as seen by one census sample. Deltas are relative to the previous
+ * sample; a thread that was not alive then reports its totals as deltas.
+ * Counters the JVM does not support are -1.
+ */
+public final class ThreadStats {
+
+    public final long id;
+    public final String name;
+    public final Thread.State state;
+    public final long cpuNanos;
+    public final long userNanos;
+    public final long allocatedBytes;
+    public final long blockedCount;
+    public final long waitedCount;
+
+    public final long cpuNanosDelta;
+    public final long userNanosDelta;
+    public final long allocatedBytesDelta;
+    public final long blockedCountDelta;
+    public final long waitedCountDelta;
+
+    ThreadStats (long id, String name, Thread.State state, long cpuNanos, long userNanos,
+                 long allocatedBytes, long blockedCount, long waitedCount, ThreadStats previous){
+        this.id = id;
+        this.name = name;
+        this.state = state;
+        this.cpuNanos = cpuNanos;
+        this.userNanos = userNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.blockedCount = blockedCount;
+        this.waitedCount = waitedCount;
+        this.cpuNanosDelta = delta (cpuNanos, previous == null ? 0 : previous.cpuNanos);
+        this.userNanosDelta = delta (userNanos, previous == null ? 0 : previous.userNanos);
+        this.allocatedBytesDelta = delta (allocatedBytes, previous == null ? 0 : previous.allocatedBytes);
+        this.blockedCountDelta = delta (blockedCount, previous == null ? 0 : previous.blockedCount);
+        this.waitedCountDelta = delta (waitedCount, previous == null ? 0 : previous.waitedCount);
+    }
+
+    private static long delta (long now, long before){
+        if (now < 0)
+            return -1;
+        return now - Math.max (before, 0);
+    }
+
+    @Override
+    public String toString (){
+        return "Thread[" + id + "," + name + "," + state + "] cpu +" + cpuNanosDelta / 1000 + " us, user +"
+                + userNanosDelta / 1000 + " us, alloc +" + allocatedBytesDelta + " B, blocked +"
+                + blockedCountDelta + ", waited +" + waitedCountDelta;
+    }
+}
@@ -0,0 +1,51 @@
+package com.acme.lang.idle;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spins, then yields, then parks with exponential backoff: short gaps are caught
+ * at spin latency while long ones cost next to no CPU.
+ */
+public final class BackoffIdleStrategy implements IdleStrategy {
+
+    private final long maxSpins;
+    private final long maxYields;
+    private final long minParkNanos;
+    private final long maxParkNanos;
+
+    private long spins;
+    private long yields;
+    private long parkNanos;
+
+    public BackoffIdleStrategy (long maxSpins, long maxYields, long minParkNanos, long maxParkNanos){
+        if (maxSpins < 0 || maxYields < 0 || minParkNanos < 1 || maxParkNanos < minParkNanos)
+            throw new IllegalArgumentException ("bad backoff: " + maxSpins + ", " + maxYields + ", "
+                    + minParkNanos + ", " + maxParkNanos);
+        this.maxSpins = maxSpins;
+        this.maxYields = maxYields;
+        this.minParkNanos = minParkNanos;
+        this.maxParkNanos = maxParkNanos;
+        this.parkNanos = minParkNanos;
+    }
+
+    @Override
+    public void idle (){
+        if (spins < maxSpins){
+            spins++;
+            Thread.onSpinWait ();
+        } else if (yields < maxYields){
+            yields++;
+            Thread.yield ();
+        } else {
+            LockSupport.parkNanos (parkNanos);
+            parkNanos = Math.min (parkNanos << 1, maxParkNanos);
+        }
+    }
+
+    @Override
+    public void reset (){
+        spins = 0;
+        yields = 0;
+        parkNanos = minParkNanos;
+    }
+}
@@ -0,0 +1,14 @@
+package com.acme.lang.idle;
+
+/** Never gives up the core; {@link Thread#onSpinWait()} lets the CPU relax the pipeline. Lowest latency. */
+public final class BusySpinIdleStrategy implements IdleStrategy {
+
+    @Override
+    public void idle (){
+        Thread.onSpinWait ();
+    }
+
+    @Override
+    public void reset (){
+    }
+}
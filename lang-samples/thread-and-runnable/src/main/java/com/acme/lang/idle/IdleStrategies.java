@@ -0,0 +1,33 @@
+package com.acme.lang.idle;
+
+/**
+ * Builds idle strategies by name, so a deployment picks one with
+ * {@code -Dcom.acme.lang.idle=spin|yield|park|backoff}.
+ */
+public final class IdleStrategies {
+
+    public static final String PROPERTY = "com.acme.lang.idle";
+
+    private IdleStrategies (){
+    }
+
+    public static IdleStrategy named (String name){
+        switch (name){
+            case "spin":
+                return new BusySpinIdleStrategy ();
+            case "yield":
+                return new YieldingIdleStrategy ();
+            case "park":
+                return new ParkingIdleStrategy (1000, 1000000);
+            case "backoff":
+                return new BackoffIdleStrategy (100, 10, 1000, 1000000);
+            default:
+                throw new IllegalArgumentException ("unknown idle strategy: " + name);
+        }
+    }
+
+    /** The strategy named by the system property, or {@code defaultName} when it is unset. */
+    public static IdleStrategy fromProperty (String defaultName){
+        return named (System.getProperty (PROPERTY, defaultName));
+    }
+}
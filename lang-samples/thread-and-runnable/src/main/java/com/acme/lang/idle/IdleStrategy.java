@@ -0,0 +1,24 @@
+package com.acme.lang.idle;
+
+/**
+ * What a polling loop does when an iteration found nothing to do. Strategies
+ * trade wake-up latency against the CPU the idle thread burns; loops take one
+ * as a parameter so the trade-off is a deployment choice, not a code change.
+ * Instances keep per-loop state and must not be shared between threads.
+ */
+public interface IdleStrategy {
+
+    /** Idles once if {@code workCount} is zero, otherwise resets any backoff. */
+    default void idle (int workCount){
+        if (workCount > 0)
+            reset ();
+        else
+            idle ();
+    }
+
+    /** Idles once, escalating if the strategy backs off. */
+    void idle ();
+
+    /** Forgets accumulated backoff, e.g. after the loop found work. */
+    void reset ();
+}
@@ -0,0 +1,30 @@
+package com.acme.lang.idle;
+
+import java.util.concurrent.locks.LockSupport;
+
+/** Parks, doubling the park time on each idle call from min up to max. Least CPU, slowest to wake. */
+public final class ParkingIdleStrategy implements IdleStrategy {
+
+    private final long minParkNanos;
+    private final long maxParkNanos;
+    private long parkNanos;
+
+    public ParkingIdleStrategy (long minParkNanos, long maxParkNanos){
+        if (minParkNanos < 1 || maxParkNanos < minParkNanos)
+            throw new IllegalArgumentException ("need 0 < min <= max: " + minParkNanos + ", " + maxParkNanos);
+        this.minParkNanos = minParkNanos;
+        this.maxParkNanos = maxParkNanos;
+        this.parkNanos = minParkNanos;
+    }
+
+    @Override
+    public void idle (){
+        LockSupport.parkNanos (parkNanos);
+        parkNanos = Math.min (parkNanos << 1, maxParkNanos);
+    }
+
+    @Override
+    public void reset (){
+        parkNanos = minParkNanos;
+    }
+}
@@ -0,0 +1,14 @@
+package com.acme.lang.idle;
+
+/** Offers the core to other runnable threads; still 100% CPU when nothing else wants it. */
+public final class YieldingIdleStrategy implements IdleStrategy {
+
+    @Override
+    public void idle (){
+        Thread.yield ();
+    }
+
+    @Override
+    public void reset (){
+    }
+}
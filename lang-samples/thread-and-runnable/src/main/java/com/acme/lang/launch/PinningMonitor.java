@@ -0,0 +1,118 @@
+package com.acme.lang.launch;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reports virtual threads that block without unmounting and so keep their carrier
+ * thread busy the whole time: jdk.VirtualThreadPinned covers parking inside a
+ * synchronized block (SyncTransThread's sleep), and jdk.JavaMonitorWait events from
+ * virtual threads cover Object.wait() (UpShared), which pins on Java 21-23 without
+ * raising the pinned event. Pins are grouped by the innermost application frame.
+ * On runtimes without virtual threads nothing is reported.
+ */
+public class PinningMonitor implements AutoCloseable {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final String WAIT = "jdk.JavaMonitorWait";
+    private static final String MARK = "com.acme.lang.launch.PinningMark";
+
+    private final RecordingStream stream = new RecordingStream ();
+    private final AtomicLong pins = new AtomicLong ();
+    private final AtomicLong pinnedNanos = new AtomicLong ();
+    private final Map<String, Long> sites = new TreeMap<> ();
+    private final Semaphore marks = new Semaphore (0);
+
+    /** Reports pins that last at least {@code threshold}. */
+    public PinningMonitor (Duration threshold){
+        stream.enable (PINNED).withThreshold (threshold).withStackTrace ();
+        stream.enable (WAIT).withThreshold (threshold).withStackTrace ();
+        stream.enable (MARK);
+        stream.onEvent (MARK, e -> marks.release ());
+        stream.onEvent (PINNED, this::record);
+        stream.onEvent (WAIT, e -> {
+            if (isVirtual (e.getThread ()))
+                record (e);
+        });
+        stream.startAsync ();
+    }
+
+    public long pins (){
+        return pins.get ();
+    }
+
+    public long pinnedNanos (){
+        return pinnedNanos.get ();
+    }
+
+    public synchronized Map<String, Long> sites (){
+        return new TreeMap<> (sites);
+    }
+
+    /**
+     * Waits until events recorded so far have been delivered. The stream is flushed
+     * about once a second, so without this a short run reports nothing.
+     */
+    public void awaitDelivery () throws InterruptedException {
+        new Mark ().commit ();
+        marks.tryAcquire (5, TimeUnit.SECONDS);
+    }
+
+    public String report () throws InterruptedException {
+        awaitDelivery ();
+        StringBuilder sb = new StringBuilder ();
+        sb.append (pins ()).append (" pinned blocking operations, ")
+                .append (pinnedNanos () / 1000000).append (" ms total");
+        for (Map.Entry<String, Long> e : sites ().entrySet ())
+            sb.append ("\n  ").append (e.getValue ()).append (" at ").append (e.getKey ());
+        return sb.toString ();
+    }
+
+    @Override
+    public void close (){
+        stream.close ();
+    }
+
+    @Name (MARK)
+    @Label ("Pinning monitor flush mark")
+    static class Mark extends Event {
+    }
+
+    private void record (RecordedEvent event){
+        pins.incrementAndGet ();
+        pinnedNanos.addAndGet (event.getDuration ().toNanos ());
+        String site = site (event.getStackTrace ());
+        synchronized (this){
+            sites.merge (site, 1L, Long::sum);
+        }
+    }
+
+    // RecordedThread.isVirtual() is Java 21 API; the field is read by name to build on 17.
+    private static boolean isVirtual (RecordedThread thread){
+        return thread != null && thread.hasField ("virtual") && thread.getBoolean ("virtual");
+    }
+
+    private static String site (RecordedStackTrace stack){
+        if (stack == null)
+            return "<no stack>";
+        for (RecordedFrame frame : stack.getFrames ()){
+            String type = frame.getMethod ().getType ().getName ();
+            if (!type.startsWith ("java.") && !type.startsWith ("jdk.") && !type.startsWith ("sun."))
+                return type + "." + frame.getMethod ().getName () + ":" + frame.getLineNumber ();
+        }
+        return "<jdk internal>";
+    }
+}
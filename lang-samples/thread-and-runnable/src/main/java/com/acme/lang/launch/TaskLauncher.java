@@ -0,0 +1,35 @@
+package com.acme.lang.launch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs sample workloads on threads from a factory instead of starting them as
+ * their own Thread subclasses. The samples extend Thread, which is a Runnable,
+ * so {@code launch(List.of(new Producer(s), new Consumer(s)))} runs their run()
+ * methods on platform or virtual threads alike; getName() still answers with
+ * the sample object's own name.
+ */
+public class TaskLauncher {
+
+    private final ThreadFactory factory;
+
+    public TaskLauncher (ThreadFactory factory){
+        this.factory = factory;
+    }
+
+    /** Starts every task, waits for all of them and returns the elapsed nanoseconds. */
+    public long launch (List<? extends Runnable> tasks) throws InterruptedException {
+        List<Thread> threads = new ArrayList<> (tasks.size ());
+        long start = System.nanoTime ();
+        for (Runnable task : tasks){
+            Thread t = factory.newThread (task);
+            threads.add (t);
+            t.start ();
+        }
+        for (Thread t : threads)
+            t.join ();
+        return System.nanoTime () - start;
+    }
+}
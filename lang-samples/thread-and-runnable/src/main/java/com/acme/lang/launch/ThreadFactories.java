@@ -0,0 +1,60 @@
+package com.acme.lang.launch;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Platform or virtual thread factories, chosen by name. The build targets Java 17,
+ * so Thread.ofVirtual() is looked up reflectively and only works on a Java 21+ runtime.
+ */
+public final class ThreadFactories {
+
+    private static final ThreadFactory VIRTUAL = lookupVirtual ();
+
+    private ThreadFactories (){
+    }
+
+    public static ThreadFactory platform (){
+        AtomicLong counter = new AtomicLong ();
+        return r -> new Thread (r, "platform-" + counter.incrementAndGet ());
+    }
+
+    public static ThreadFactory virtual (){
+        if (VIRTUAL == null)
+            throw new UnsupportedOperationException ("virtual threads need Java 21+, running on "
+                    + System.getProperty ("java.version"));
+        return VIRTUAL;
+    }
+
+    public static boolean isVirtualSupported (){
+        return VIRTUAL != null;
+    }
+
+    /** "virtual" when the runtime has virtual threads, otherwise "platform". */
+    public static String defaultMode (){
+        return isVirtualSupported () ? "virtual" : "platform";
+    }
+
+    /** "platform" or "virtual". */
+    public static ThreadFactory named (String mode){
+        switch (mode){
+            case "platform":
+                return platform ();
+            case "virtual":
+                return virtual ();
+            default:
+                throw new IllegalArgumentException ("unknown thread mode: " + mode);
+        }
+    }
+
+    private static ThreadFactory lookupVirtual (){
+        try{
+            Object builder = Thread.class.getMethod ("ofVirtual").invoke (null);
+            Method factory = Class.forName ("java.lang.Thread$Builder").getMethod ("factory");
+            return (ThreadFactory) factory.invoke (builder);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
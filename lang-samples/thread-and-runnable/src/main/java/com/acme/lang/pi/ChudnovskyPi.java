@@ -0,0 +1,188 @@
+package com.acme.lang.pi;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Arbitrary-precision pi from the Chudnovsky series, summed by binary splitting.
+ * Each term adds about 14.18 decimal digits; the split tree is evaluated as
+ * fork/join tasks and the final digits are converted and written in chunks,
+ * so the full decimal string is never held in memory.
+ */
+public final class ChudnovskyPi {
+
+    private static final BigInteger A = BigInteger.valueOf (13591409L);
+    private static final BigInteger B = BigInteger.valueOf (545140134L);
+    // 640320^3 / 24
+    private static final BigInteger C3_OVER_24 = BigInteger.valueOf (10939058860032000L);
+    private static final BigInteger SCALE = BigInteger.valueOf (426880L);
+
+    private static final double DIGITS_PER_TERM = 14.181647462725477;
+
+    // Ranges this short are split on the calling thread; forking them costs more than the products.
+    private static final long SEQUENTIAL_TERMS = 512;
+
+    // Digit chunks below this size are converted with BigInteger.toString directly.
+    private static final int CHUNK_DIGITS = 4096;
+
+    private ChudnovskyPi (){
+    }
+
+    public static BigDecimal compute (int digits){
+        return compute (digits, ForkJoinPool.commonPool ());
+    }
+
+    public static BigDecimal compute (int digits, ForkJoinPool pool){
+        return new BigDecimal (scaled (digits, pool), digits);
+    }
+
+    /**
+     * Writes "3." followed by {@code digits} decimals (truncated, not rounded) to {@code file}.
+     */
+    public static void write (int digits, Path file) throws IOException {
+        write (digits, file, ForkJoinPool.commonPool ());
+    }
+
+    public static void write (int digits, Path file, ForkJoinPool pool) throws IOException {
+        BigInteger pi = scaled (digits, pool);
+        try (Writer out = new BufferedWriter (Files.newBufferedWriter (file, StandardCharsets.US_ASCII), 1 << 16)){
+            BigInteger [] intFrac = pi.divideAndRemainder (BigInteger.TEN.pow (digits));
+            out.write (intFrac [0].toString ());
+            out.write ('.');
+            writeDigits (intFrac [1], digits, out, new HashMap<Integer, BigInteger> ());
+            out.write ('\n');
+        }
+    }
+
+    // floor(pi * 10^digits), with guard digits dropped.
+    static BigInteger scaled (int digits, ForkJoinPool pool){
+        if (digits < 1)
+            throw new IllegalArgumentException ("digits must be positive: " + digits);
+        int guard = 16;
+        long terms = (long) ((digits + guard) / DIGITS_PER_TERM) + 1;
+        Pqt s = pool.invoke (new SplitTask (0, terms, false));
+
+        // pi = 426880 * sqrt(10005) * Q / T
+        BigInteger one = BigInteger.TEN.pow (digits + guard);
+        BigInteger sqrt = isqrt (BigInteger.valueOf (10005L).multiply (one.multiply (one)));
+        BigInteger pi = SCALE.multiply (sqrt).multiply (s.q).divide (s.t);
+        return pi.divide (BigInteger.TEN.pow (guard));
+    }
+
+    // BigInteger.sqrt runs Newton at full precision from the start; recursing on the top
+    // half of the bits and finishing with one full-width step costs about one division.
+    static BigInteger isqrt (BigInteger n){
+        int bits = n.bitLength ();
+        if (bits <= 1024)
+            return n.sqrt ();
+        int k = bits / 4;
+        BigInteger s = isqrt (n.shiftRight (2 * k)).shiftLeft (k);
+        // A Newton step from any positive guess lands on or above the root.
+        BigInteger x = s.add (n.divide (s)).shiftRight (1);
+        while (x.multiply (x).compareTo (n) > 0)
+            x = x.subtract (BigInteger.ONE);
+        return x;
+    }
+
+    // Divide and conquer radix conversion: each half is written with exactly its share of digits.
+    private static void writeDigits (BigInteger x, int digits, Writer out, Map<Integer, BigInteger> powers)
+            throws IOException {
+        if (digits <= CHUNK_DIGITS){
+            String s = x.toString ();
+            for (int i = s.length (); i < digits; i++)
+                out.write ('0');
+            out.write (s);
+            return;
+        }
+        int low = digits / 2;
+        BigInteger pow = powers.get (low);
+        if (pow == null){
+            pow = BigInteger.TEN.pow (low);
+            powers.put (low, pow);
+        }
+        BigInteger [] hiLo = x.divideAndRemainder (pow);
+        writeDigits (hiLo [0], digits - low, out, powers);
+        writeDigits (hiLo [1], low, out, powers);
+    }
+
+    static Pqt split (long a, long b, boolean needP){
+        if (b - a == 1)
+            return leaf (a);
+        long m = (a + b) >>> 1;
+        return Pqt.combine (split (a, m, true), split (m, b, needP), needP);
+    }
+
+    private static Pqt leaf (long a){
+        BigInteger p;
+        BigInteger q;
+        if (a == 0){
+            p = BigInteger.ONE;
+            q = BigInteger.ONE;
+        } else {
+            BigInteger ba = BigInteger.valueOf (a);
+            p = BigInteger.valueOf (6 * a - 5)
+                    .multiply (BigInteger.valueOf (2 * a - 1))
+                    .multiply (BigInteger.valueOf (6 * a - 1));
+            q = ba.multiply (ba).multiply (ba).multiply (C3_OVER_24);
+        }
+        BigInteger t = p.multiply (A.add (B.multiply (BigInteger.valueOf (a))));
+        if ((a & 1) == 1)
+            t = t.negate ();
+        return new Pqt (p, q, t);
+    }
+
+    static final class Pqt {
+        final BigInteger p;
+        final BigInteger q;
+        final BigInteger t;
+
+        Pqt (BigInteger p, BigInteger q, BigInteger t){
+            this.p = p;
+            this.q = q;
+            this.t = t;
+        }
+
+        // P is only consumed by ranges further right, so the rightmost edge of the tree never builds it.
+        static Pqt combine (Pqt left, Pqt right, boolean needP){
+            BigInteger p = needP ? left.p.multiply (right.p) : null;
+            BigInteger q = left.q.multiply (right.q);
+            BigInteger t = right.q.multiply (left.t).add (left.p.multiply (right.t));
+            return new Pqt (p, q, t);
+        }
+    }
+
+    static final class SplitTask extends RecursiveTask<Pqt> {
+        private static final long serialVersionUID = 1L;
+
+        private final long a;
+        private final long b;
+        private final boolean needP;
+
+        SplitTask (long a, long b, boolean needP){
+            this.a = a;
+            this.b = b;
+            this.needP = needP;
+        }
+
+        @Override
+        protected Pqt compute (){
+            if (b - a <= SEQUENTIAL_TERMS)
+                return split (a, b, needP);
+            long m = (a + b) >>> 1;
+            SplitTask left = new SplitTask (a, m, true);
+            left.fork ();
+            Pqt right = new SplitTask (m, b, needP).compute ();
+            return Pqt.combine (left.join (), right, needP);
+        }
+    }
+}
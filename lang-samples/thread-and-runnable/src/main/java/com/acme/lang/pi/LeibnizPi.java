@@ -0,0 +1,86 @@
+package com.acme.lang.pi;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Leibniz series pi/4 = 1 - 1/3 + 1/5 - ... evaluated over a {@code long} term
+ * range, either on the calling thread or split across a fork/join pool.
+ * Both paths share the same compensated leaf kernel; the parallel path adds the
+ * leaf sums in a different order, so the two agree to within rounding, not bit
+ * for bit.
+ */
+public final class LeibnizPi {
+
+    // Same series CalcThread sums with its "i < 100000" loop: terms 1, 1/3, ... 1/99999.
+    public static final long DEFAULT_TERMS = 50000L;
+
+    // Below this a leaf is too small to pay for the fork.
+    private static final long MIN_LEAF = 1L << 16;
+
+    // Leaves per worker, so stragglers can be stolen instead of idling the rest.
+    private static final int LEAVES_PER_WORKER = 16;
+
+    private LeibnizPi (){
+    }
+
+    public static double sequential (long terms){
+        checkTerms (terms);
+        return 4.0 * sum (0, terms).value ();
+    }
+
+    public static double parallel (long terms){
+        return parallel (terms, ForkJoinPool.commonPool ());
+    }
+
+    public static double parallel (long terms, ForkJoinPool pool){
+        checkTerms (terms);
+        long leaf = Math.max (MIN_LEAF, terms / ((long) pool.getParallelism () * LEAVES_PER_WORKER));
+        return 4.0 * pool.invoke (new SumTask (0, terms, leaf)).value ();
+    }
+
+    // Sums (-1)^k / (2k + 1) for lo <= k < hi.
+    static NeumaierSum sum (long lo, long hi){
+        NeumaierSum s = new NeumaierSum ();
+        double sign = (lo & 1) == 0 ? 1.0 : -1.0;
+        double d = 2.0 * lo + 1.0;
+        for (long k = lo; k < hi; k++){
+            s.add (sign / d);
+            d += 2.0;
+            sign = -sign;
+        }
+        return s;
+    }
+
+    private static void checkTerms (long terms){
+        if (terms < 1)
+            throw new IllegalArgumentException ("terms must be positive: " + terms);
+    }
+
+    static final class SumTask extends RecursiveTask<NeumaierSum> {
+        private static final long serialVersionUID = 1L;
+
+        private final long lo;
+        private final long hi;
+        private final long leaf;
+
+        SumTask (long lo, long hi, long leaf){
+            this.lo = lo;
+            this.hi = hi;
+            this.leaf = leaf;
+        }
+
+        @Override
+        protected NeumaierSum compute (){
+            if (hi - lo <= leaf)
+                return sum (lo, hi);
+            long mid = lo + (hi - lo) / 2;
+            SumTask left = new SumTask (lo, mid, leaf);
+            left.fork ();
+            NeumaierSum right = new SumTask (mid, hi, leaf).compute ();
+            NeumaierSum result = left.join ();
+            result.add (right);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.acme.lang.pi;
+
+/**
+ * Compensated (Kahan-Babuska / Neumaier) accumulator. Keeps the low-order bits
+ * lost by each addition in a separate term, so long alternating series and
+ * partial sums merged from several threads stay within an ulp of the exact sum.
+ */
+public final class NeumaierSum {
+
+    private double sum;
+    private double compensation;
+
+    public void add (double x){
+        double t = sum + x;
+        if (Math.abs (sum) >= Math.abs (x))
+            compensation += (sum - t) + x;
+        else
+            compensation += (x - t) + sum;
+        sum = t;
+    }
+
+    public void add (NeumaierSum other){
+        add (other.sum);
+        compensation += other.compensation;
+    }
+
+    public double value (){
+        return sum + compensation;
+    }
+}
@@ -0,0 +1,76 @@
+package com.acme.lang.pi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs CalcThread-style computations on an executor and hands back a
+ * CompletableFuture, so callers attach callbacks, time out or combine results
+ * instead of polling isAlive() or joining a thread to read a public field.
+ * Time from submit to completion is recorded for every task.
+ */
+public class PiCalculator {
+
+    private final Executor executor;
+    private final LongAdder completed = new LongAdder ();
+    private final LongAdder totalNanos = new LongAdder ();
+    private final LongAccumulator maxNanos = new LongAccumulator (Math::max, 0);
+
+    public PiCalculator (Executor executor){
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Double> calcPi (long terms){
+        return submit (() -> LeibnizPi.sequential (terms));
+    }
+
+    /**
+     * Fails the returned future with a TimeoutException once the timeout passes.
+     * The computation itself is not interrupted and runs to completion.
+     */
+    public CompletableFuture<Double> calcPi (long terms, long timeout, TimeUnit unit){
+        return calcPi (terms).orTimeout (timeout, unit);
+    }
+
+    public <T> CompletableFuture<T> submit (Supplier<T> task){
+        long submitted = System.nanoTime ();
+        return CompletableFuture.supplyAsync (task, executor)
+                .whenComplete ((result, error) -> record (System.nanoTime () - submitted));
+    }
+
+    /** Completes with every result in submission order, or exceptionally with the first failure. */
+    public static <T> CompletableFuture<List<T>> allOf (List<CompletableFuture<T>> futures){
+        return CompletableFuture.allOf (futures.toArray (new CompletableFuture<?> [0]))
+                .thenApply (ignored -> {
+                    List<T> results = new ArrayList<> (futures.size ());
+                    for (CompletableFuture<T> f : futures)
+                        results.add (f.join ());
+                    return results;
+                });
+    }
+
+    public long completed (){
+        return completed.sum ();
+    }
+
+    public long meanLatencyNanos (){
+        long n = completed.sum ();
+        return n == 0 ? 0 : totalNanos.sum () / n;
+    }
+
+    public long maxLatencyNanos (){
+        return maxNanos.get ();
+    }
+
+    private void record (long nanos){
+        completed.increment ();
+        totalNanos.add (nanos);
+        maxNanos.accumulate (nanos);
+    }
+}
@@ -0,0 +1,38 @@
+package com.acme.lang.pi;
+
+/** Cache key for a pi calculation: the algorithm and its size parameter (terms or digits). */
+public final class PiKey {
+
+    public enum Algorithm {
+        /** CalculationThread.calcPI's plain Leibniz loop; the size is the number of terms. */
+        LEIBNIZ_LOOP,
+        /** ChudnovskyPi; the size is the number of digits. */
+        CHUDNOVSKY
+    }
+
+    public final Algorithm algorithm;
+    public final long size;
+
+    public PiKey (Algorithm algorithm, long size){
+        this.algorithm = algorithm;
+        this.size = size;
+    }
+
+    @Override
+    public boolean equals (Object o){
+        if (!(o instanceof PiKey))
+            return false;
+        PiKey other = (PiKey) o;
+        return algorithm == other.algorithm && size == other.size;
+    }
+
+    @Override
+    public int hashCode (){
+        return 31 * algorithm.hashCode () + Long.hashCode (size);
+    }
+
+    @Override
+    public String toString (){
+        return algorithm + "(" + size + ")";
+    }
+}
@@ -0,0 +1,105 @@
+package com.acme.lang.render;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Draws the asterisk shapes of RunnableSample and CycleThread into one reusable
+ * direct buffer and hands it to a channel in large writes, instead of taking the
+ * PrintStream lock for every character. Rows are copied from templates that
+ * grow to the widest row drawn so far, so drawing a shape no wider than an
+ * earlier one does not allocate.
+ * <p>
+ * In batched mode shapes accumulate until the buffer is full or {@link #flush()}
+ * is called; otherwise every shape is written as soon as it is complete.
+ * Not thread-safe: give each drawing thread its own renderer.
+ */
+public class ShapeRenderer {
+
+    public static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private final WritableByteChannel out;
+    private final ByteBuffer buf;
+    private final boolean batched;
+    private byte [] stars = new byte [0];
+    private byte [] spaces = new byte [0];
+
+    public ShapeRenderer (WritableByteChannel out, int capacity, boolean batched){
+        if (capacity < 2)
+            throw new IllegalArgumentException ("capacity must hold at least one row: " + capacity);
+        this.out = out;
+        this.buf = ByteBuffer.allocateDirect (capacity);
+        this.batched = batched;
+    }
+
+    /**
+     * Renderer over the process's standard output file descriptor. Bypasses System.out,
+     * so anything already buffered there should be flushed first.
+     */
+    public static ShapeRenderer stdout (boolean batched){
+        return new ShapeRenderer (new FileOutputStream (FileDescriptor.out).getChannel (), DEFAULT_CAPACITY, batched);
+    }
+
+    /** Outline rectangle as drawn by RunnableSample.draw(); width and height are at least 2. */
+    public void rectangle (int width, int height) throws IOException {
+        ensureTemplates (width);
+        row (width);
+        for (int r = 0; r < height - 2; r++){
+            ensureRoom (width + 1);
+            buf.put ((byte) '*');
+            buf.put (spaces, 0, width - 2);
+            buf.put ((byte) '*');
+            buf.put ((byte) '\n');
+        }
+        row (width);
+        shapeDone ();
+    }
+
+    /** Right-angle triangle as drawn by CycleThread: rows of 1 .. rows asterisks. */
+    public void triangle (int rows) throws IOException {
+        ensureTemplates (rows);
+        for (int r = 1; r <= rows; r++)
+            row (r);
+        shapeDone ();
+    }
+
+    public void flush () throws IOException {
+        buf.flip ();
+        while (buf.hasRemaining ())
+            out.write (buf);
+        buf.clear ();
+    }
+
+    private void row (int width) throws IOException {
+        ensureRoom (width + 1);
+        buf.put (stars, 0, width);
+        buf.put ((byte) '\n');
+    }
+
+    private void ensureRoom (int bytes) throws IOException {
+        if (bytes > buf.capacity ())
+            throw new IllegalArgumentException ("row of " + bytes + " bytes exceeds capacity " + buf.capacity ());
+        if (buf.remaining () < bytes)
+            flush ();
+    }
+
+    private void ensureTemplates (int width){
+        if (width <= stars.length)
+            return;
+        if (width + 1 > buf.capacity ())
+            throw new IllegalArgumentException ("row of " + (width + 1) + " bytes exceeds capacity " + buf.capacity ());
+        stars = new byte [width];
+        spaces = new byte [width];
+        Arrays.fill (stars, (byte) '*');
+        Arrays.fill (spaces, (byte) ' ');
+    }
+
+    private void shapeDone () throws IOException {
+        if (!batched)
+            flush ();
+    }
+}
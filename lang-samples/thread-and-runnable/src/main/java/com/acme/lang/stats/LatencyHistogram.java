@@ -0,0 +1,111 @@
+package com.acme.lang.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of non-negative values (nanoseconds, usually),
+ * in the style of HdrHistogram: values below 64 get a bucket each, and every
+ * power of two above that is split into 64 linear sub-buckets, so any recorded
+ * value is reported within about 1.6% over the whole long range in 3.8k buckets.
+ * Recording is one atomic increment and never allocates.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray (BUCKETS);
+    private final LongAdder total = new LongAdder ();
+    private final LongAdder sum = new LongAdder ();
+    private final LongAccumulator max = new LongAccumulator (Math::max, 0);
+
+    public void record (long value){
+        if (value < 0)
+            value = 0;
+        counts.incrementAndGet (index (value));
+        total.increment ();
+        sum.add (value);
+        max.accumulate (value);
+    }
+
+    public long count (){
+        return total.sum ();
+    }
+
+    public long max (){
+        return max.get ();
+    }
+
+    public double mean (){
+        long n = total.sum ();
+        return n == 0 ? 0.0 : (double) sum.sum () / n;
+    }
+
+    /**
+     * Highest value equivalent to the bucket holding the {@code p} quantile (0..1),
+     * capped at the recorded maximum; 0 when empty.
+     */
+    public long percentile (double p){
+        long n = 0;
+        long [] snapshot = new long [BUCKETS];
+        for (int i = 0; i < BUCKETS; i++){
+            snapshot [i] = counts.get (i);
+            n += snapshot [i];
+        }
+        if (n == 0)
+            return 0;
+        long rank = Math.max (1, (long) Math.ceil (p * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++){
+            seen += snapshot [i];
+            if (seen >= rank)
+                return Math.min (highestEquivalent (i), max.get ());
+        }
+        return max.get ();
+    }
+
+    /** Adds every count of {@code other} into this histogram. */
+    public void add (LatencyHistogram other){
+        for (int i = 0; i < BUCKETS; i++){
+            long c = other.counts.get (i);
+            if (c != 0)
+                counts.addAndGet (i, c);
+        }
+        total.add (other.total.sum ());
+        sum.add (other.sum.sum ());
+        max.accumulate (other.max.get ());
+    }
+
+    public void reset (){
+        for (int i = 0; i < BUCKETS; i++)
+            counts.set (i, 0);
+        total.reset ();
+        sum.reset ();
+        max.reset ();
+    }
+
+    /** "n=... mean=... p50=... p99=... p99.9=... max=..." with values divided by {@code unit}. */
+    public String summary (long unit, String unitName){
+        return String.format ("n=%d mean=%.1f p50=%.1f p99=%.1f p99.9=%.1f max=%.1f %s", count (),
+                mean () / unit, (double) percentile (0.50) / unit, (double) percentile (0.99) / unit,
+                (double) percentile (0.999) / unit, (double) max () / unit, unitName);
+    }
+
+    static int index (long value){
+        if (value < SUB_COUNT)
+            return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros (value) - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) ((value >>> shift) - SUB_COUNT);
+    }
+
+    static long highestEquivalent (int index){
+        if (index < SUB_COUNT)
+            return index;
+        int shift = (index >>> SUB_BITS) - 1;
+        long lowest = (long) (SUB_COUNT + (index & (SUB_COUNT - 1))) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -1,12 +1,29 @@
 package com.acme.lang.thread;
 
+import com.acme.lang.pi.LeibnizPi;
+
 public class CalcThread extends Thread
 {
+    private final long terms;
     boolean negative = true;
     public double pi; // Initializes to 0.0, by default
+
+    public CalcThread ()
+    {
+        this (LeibnizPi.DEFAULT_TERMS);
+    }
+
+    public CalcThread (long terms)
+    {
+        // The loop runs i up to 2 * terms, which must not overflow.
+        if (terms < 1 || terms > Long.MAX_VALUE / 2 - 1)
+            throw new IllegalArgumentException ("terms must be in 1.." + (Long.MAX_VALUE / 2 - 1) + ": " + terms);
+        this.terms = terms;
+    }
+
     public void run ()
     {
-        for (int i = 3; i < 100000; i += 2)
+        for (long i = 3; i < 2 * terms; i += 2)
         {
             if (negative)
                 pi -= (1.0 / i);
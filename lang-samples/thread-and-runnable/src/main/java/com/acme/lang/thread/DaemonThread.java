@@ -1,8 +1,15 @@
 package com.acme.lang.thread;
 
+import com.acme.lang.idle.IdleStrategies;
+import com.acme.lang.idle.IdleStrategy;
+
 public class DaemonThread extends Thread {
+    // Busy-spins by default like the original "while (true);"; -Dcom.acme.lang.idle=park frees the core.
+    private final IdleStrategy idle = IdleStrategies.fromProperty ("spin");
+
     public void run (){
         System.out.println ("Daemon is " + isDaemon ());
-        while (true);
+        while (true)
+            idle.idle ();
     }
 }
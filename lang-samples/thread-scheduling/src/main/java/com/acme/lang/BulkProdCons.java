@@ -0,0 +1,18 @@
+package com.acme.lang;
+
+import com.acme.lang.model.RingShared;
+import com.acme.lang.thread.BulkConsumer;
+import com.acme.lang.thread.BulkProducer;
+
+public class BulkProdCons {
+
+    public static void main (String [] args)
+    {
+        // The producer hands over 4 letters at a time; the consumer takes everything that is ready.
+        int chunk = args.length == 0 ? 4 : Integer.parseInt (args [0]);
+        RingShared s = new RingShared (32);
+        new BulkProducer (s, chunk, 1000).start ();
+        new BulkConsumer (s, 2000).start ();
+    }
+
+}
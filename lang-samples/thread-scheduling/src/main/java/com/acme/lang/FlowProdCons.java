@@ -0,0 +1,38 @@
+package com.acme.lang;
+
+import com.acme.lang.flow.CharMapStage;
+import com.acme.lang.flow.FlowConsumer;
+import com.acme.lang.flow.SharePublisher;
+import com.acme.lang.model.RingShared;
+import com.acme.lang.thread.Producer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class FlowProdCons {
+
+    public static void main (String [] args) throws InterruptedException
+    {
+        int batch = args.length == 0 ? 4 : Integer.parseInt (args [0]);
+
+        // Three stages share two threads; none of them owns one.
+        ExecutorService executor = Executors.newFixedThreadPool (2);
+        SharePublisher publisher = new SharePublisher (new RingShared (8), executor, batch);
+        CharMapStage lower = new CharMapStage (Character::toLowerCase, executor, batch);
+        CharMapStage upper = new CharMapStage (Character::toUpperCase, executor, batch);
+        FlowConsumer consumer = new FlowConsumer (batch);
+        publisher.subscribe (lower);
+        lower.subscribe (upper);
+        upper.subscribe (consumer);
+
+        Producer producer = new Producer (publisher.input (), 200);
+        producer.start ();
+        producer.join ();
+        publisher.complete ();
+
+        Throwable failure = consumer.await ();
+        System.out.println (failure == null ? consumer.total () + " chars, completed" : "failed: " + failure);
+        executor.shutdown ();
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.acme.lang;
+
+import com.acme.lang.exec.PriorityExecutor;
+import com.acme.lang.stats.LatencyHistogram;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+public class PriorityExecutorSample {
+
+    private static volatile long sink;
+
+    public static void main (String [] args)
+    {
+        int threads = args.length == 0 ? Runtime.getRuntime ().availableProcessors () : Integer.parseInt (args [0]);
+        int seconds = args.length < 2 ? 3 : Integer.parseInt (args [1]);
+
+        // The same load twice: SummingThread-style batch work that keeps the pool saturated, plus a
+        // short interactive task every millisecond, in place of BlockingThread's keystrokes.
+        System.out.println ("same level for everything, as Thread.setPriority leaves it on Linux:");
+        run (threads, seconds, 2);
+        System.out.println ("interactive at level 0, batch at level 2, aging every 100 ms:");
+        run (threads, seconds, 0);
+    }
+
+    private static void run (int threads, int seconds, int interactiveLevel)
+    {
+        PriorityExecutor executor = new PriorityExecutor (threads, 3, 100, TimeUnit.MILLISECONDS);
+        LatencyHistogram interactive = new LatencyHistogram ();
+        long end = System.nanoTime () + TimeUnit.SECONDS.toNanos (seconds);
+        // Each batch task queues its successor, so about 20 ms of batch work per thread is always waiting.
+        for (int i = 0; i < threads * 20; i++)
+            batch (executor, end);
+        while (System.nanoTime () < end){
+            long submitted = System.nanoTime ();
+            executor.execute (interactiveLevel, () -> {
+                interactive.record (System.nanoTime () - submitted);
+                spin (10000);
+            });
+            LockSupport.parkNanos (1000000);
+        }
+        executor.close ();
+        System.out.println ("  interactive: " + interactive.summary (1000, "us"));
+        System.out.println ("  level 2:     " + executor.queueDelay (2).summary (1000, "us"));
+    }
+
+    private static void batch (PriorityExecutor executor, long end)
+    {
+        executor.execute (2, () -> {
+            spin (1000000);
+            if (System.nanoTime () >= end || executor.isShutdown ())
+                return;
+            try{
+                batch (executor, end);
+            } catch (RejectedExecutionException e) {
+                // Shut down between the check and the resubmit: the run is over either way.
+            }
+        });
+    }
+
+    // Busy work for about {@code nanos} nanoseconds.
+    private static void spin (long nanos)
+    {
+        long deadline = System.nanoTime () + nanos;
+        long sum = 0;
+        while (System.nanoTime () < deadline)
+            sum++;
+        sink = sum;
+    }
+
+}
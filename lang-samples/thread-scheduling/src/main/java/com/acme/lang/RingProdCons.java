@@ -0,0 +1,18 @@
+package com.acme.lang;
+
+import com.acme.lang.model.RingShared;
+import com.acme.lang.thread.Consumer;
+import com.acme.lang.thread.Producer;
+
+public class RingProdCons {
+
+    public static void main (String [] args)
+    {
+        // With room for 8 chars the producer gets up to 8 letters ahead of the consumer.
+        int capacity = args.length == 0 ? 8 : Integer.parseInt (args [0]);
+        RingShared s = new RingShared (capacity);
+        new Producer (s, 500).start ();
+        new Consumer (s, 2000).start ();
+    }
+
+}
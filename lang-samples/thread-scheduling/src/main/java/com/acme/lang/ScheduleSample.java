@@ -1,13 +1,28 @@
 package com.acme.lang;
 
+import com.acme.lang.cache.MemoCache;
+import com.acme.lang.pi.PiKey;
 import com.acme.lang.thread.CalculationThread;
 
 public class ScheduleSample {
 
-    public static void main (String [] args)
+    public static void main (String [] args) throws InterruptedException
     {
-        new CalculationThread ("CalcThread A").start ();
-        new CalculationThread("CalcThread B").start ();
+        // An argument switches both threads from the Leibniz loop to Chudnovsky with that many digits.
+        int digits = args.length == 0 ? 0 : Integer.parseInt (args [0]);
+        // "nocache" as second argument recomputes every time, as the sample originally did.
+        boolean cached = args.length < 2 || !args [1].equals ("nocache");
+
+        MemoCache<PiKey, Number> cache = cached ? new MemoCache<> (64) : null;
+        long start = System.nanoTime ();
+        CalculationThread a = new CalculationThread ("CalcThread A", digits, cache);
+        CalculationThread b = new CalculationThread ("CalcThread B", digits, cache);
+        a.start ();
+        b.start ();
+        a.join ();
+        b.join ();
+        System.out.println ("finished in " + (System.nanoTime () - start) / 1000 + " us"
+                + (cached ? ", cache " + cache.stats () : ""));
     }
 
 }
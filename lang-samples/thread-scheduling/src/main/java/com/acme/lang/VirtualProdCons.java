@@ -0,0 +1,48 @@
+package com.acme.lang;
+
+import com.acme.lang.launch.PinningMonitor;
+import com.acme.lang.launch.TaskLauncher;
+import com.acme.lang.launch.ThreadFactories;
+import com.acme.lang.model.LockShared;
+import com.acme.lang.model.Share;
+import com.acme.lang.model.UpShared;
+import com.acme.lang.thread.Consumer;
+import com.acme.lang.thread.Producer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class VirtualProdCons {
+
+    public static void main (String [] args) throws InterruptedException {
+        // virtual|platform, number of producer/consumer pairs, max sleep between chars, lock|monitor
+        // Defaults to virtual threads where the runtime has them; platform pairs are kept to a count an OS can start.
+        String mode = args.length == 0 ? ThreadFactories.defaultMode () : args [0];
+        int pairs = args.length < 2 ? (mode.equals ("virtual") ? 50000 : 500) : Integer.parseInt (args [1]);
+        int maxSleep = args.length < 3 ? 100 : Integer.parseInt (args [2]);
+        // UpShared's wait() pins each waiting virtual thread to a carrier; with more waiters than
+        // carriers the pairs starve each other, so the ReentrantLock handoff is the default.
+        boolean monitor = args.length >= 4 && args [3].equals ("monitor");
+
+        List<Thread> tasks = new ArrayList<> (2 * pairs);
+        for (int i = 0; i < pairs; i++){
+            Share s = monitor ? new UpShared () : new LockShared ();
+            tasks.add (new Producer (s, maxSleep));
+            tasks.add (new Consumer (s, maxSleep));
+        }
+
+        // 26 lines per task would swamp the console; only the summary is printed.
+        PrintStream out = System.out;
+        System.setOut (new PrintStream (OutputStream.nullOutputStream ()));
+        try (PinningMonitor pinning = new PinningMonitor (Duration.ofMillis (1))){
+            long nanos = new TaskLauncher (ThreadFactories.named (mode)).launch (tasks);
+            out.println (tasks.size () + " " + mode + " tasks finished in " + nanos / 1000000 + " ms");
+            out.println (pinning.report ());
+        } finally {
+            System.setOut (out);
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package com.acme.lang;
 
+import com.acme.lang.idle.IdleStrategies;
+import com.acme.lang.idle.IdleStrategy;
+
 public class YieldSample extends Thread {
-    static boolean finished = false;
+    static volatile boolean finished = false;
     static int sum = 0;
 
     public static void main (String [] args){
+        // Yields between increments unless an argument is given; -Dcom.acme.lang.idle picks another strategy.
+        IdleStrategy idle = args.length == 0 ? IdleStrategies.fromProperty ("yield") : null;
         new YieldSample ().start ();
         for (int i = 1; i <= 50000; i++){
             sum++;
-            if (args.length == 0){
-                Thread.yield ();
+            if (idle != null){
+                // One pause per increment; each one made progress, so backoff never escalates.
+                idle.idle ();
+                idle.reset ();
             }
         }
         finished = true;
@@ -0,0 +1,195 @@
+package com.acme.lang.exec;
+
+import com.acme.lang.stats.LatencyHistogram;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed pool that schedules by priority in user space, where Thread.setPriority
+ * has no effect on Linux. Level 0 is the most urgent; each level has its own FIFO
+ * queue. A free worker takes the head with the best effective level: its level
+ * minus one for every {@code agingPeriod} it has waited. Fresh work is therefore
+ * served in strict priority order, yet a batch task that has waited long enough
+ * ages past newer urgent tasks and cannot starve. Long.MAX_VALUE as aging period
+ * gives pure strict priority.
+ * <p>
+ * Queueing delay, submission to start, is recorded per level.
+ */
+public class PriorityExecutor implements Executor, AutoCloseable {
+
+    private static final class Entry {
+        final Runnable task;
+        final long enqueued;
+
+        Entry (Runnable task, long enqueued){
+            this.task = task;
+            this.enqueued = enqueued;
+        }
+    }
+
+    private final ArrayDeque<Entry> [] queues;
+    private final LatencyHistogram [] queueDelay;
+    private final long agingNanos;
+    private final Thread [] workers;
+    private final ReentrantLock lock = new ReentrantLock ();
+    private final Condition notEmpty = lock.newCondition ();
+    private final AtomicInteger failures = new AtomicInteger ();
+    private int queued;
+    private boolean shutdown;
+
+    @SuppressWarnings ("unchecked")
+    public PriorityExecutor (int threads, int levels, long agingPeriod, TimeUnit unit){
+        if (threads < 1 || levels < 1)
+            throw new IllegalArgumentException ("threads and levels must be positive: " + threads + ", " + levels);
+        this.queues = (ArrayDeque<Entry> []) new ArrayDeque<?> [levels];
+        this.queueDelay = new LatencyHistogram [levels];
+        for (int i = 0; i < levels; i++){
+            queues [i] = new ArrayDeque<> ();
+            queueDelay [i] = new LatencyHistogram ();
+        }
+        this.agingNanos = agingPeriod == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max (1, unit.toNanos (agingPeriod));
+        this.workers = new Thread [threads];
+        for (int i = 0; i < threads; i++){
+            workers [i] = new Thread (this::work, "priority-worker-" + i);
+            workers [i].start ();
+        }
+    }
+
+    public int levels (){
+        return queues.length;
+    }
+
+    /** Runs {@code task} at the lowest priority. */
+    @Override
+    public void execute (Runnable task){
+        execute (queues.length - 1, task);
+    }
+
+    public void execute (int level, Runnable task){
+        if (level < 0 || level >= queues.length)
+            throw new IllegalArgumentException ("level must be in 0.." + (queues.length - 1) + ": " + level);
+        Entry e = new Entry (task, System.nanoTime ());
+        lock.lock ();
+        try{
+            if (shutdown)
+                throw new RejectedExecutionException ("executor is shut down");
+            queues [level].addLast (e);
+            queued++;
+            notEmpty.signal ();
+        } finally {
+            lock.unlock ();
+        }
+    }
+
+    /** Submission-to-start delay of tasks run at {@code level}, in nanoseconds. */
+    public LatencyHistogram queueDelay (int level){
+        return queueDelay [level];
+    }
+
+    /** Tasks that threw; the exception is printed and the worker carries on. */
+    public int failures (){
+        return failures.get ();
+    }
+
+    /** Stops accepting tasks; the queued ones still run. */
+    public void shutdown (){
+        lock.lock ();
+        try{
+            shutdown = true;
+            notEmpty.signalAll ();
+        } finally {
+            lock.unlock ();
+        }
+    }
+
+    public boolean isShutdown (){
+        lock.lock ();
+        try{
+            return shutdown;
+        } finally {
+            lock.unlock ();
+        }
+    }
+
+    public boolean awaitTermination (long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime () + unit.toNanos (timeout);
+        for (Thread w : workers){
+            long left = deadline - System.nanoTime ();
+            if (left <= 0)
+                return false;
+            TimeUnit.NANOSECONDS.timedJoin (w, left);
+            if (w.isAlive ())
+                return false;
+        }
+        return true;
+    }
+
+    /** Shuts down and waits for the queued tasks; an interrupt is kept for the caller, not thrown. */
+    @Override
+    public void close (){
+        shutdown ();
+        boolean interrupted = false;
+        for (Thread w : workers){
+            while (true){
+                try{
+                    w.join ();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted)
+            Thread.currentThread ().interrupt ();
+    }
+
+    private void work (){
+        while (true){
+            int level;
+            Entry e;
+            lock.lock ();
+            try{
+                while (queued == 0){
+                    if (shutdown)
+                        return;
+                    notEmpty.awaitUninterruptibly ();
+                }
+                level = pick (System.nanoTime ());
+                e = queues [level].pollFirst ();
+                queued--;
+            } finally {
+                lock.unlock ();
+            }
+            queueDelay [level].record (System.nanoTime () - e.enqueued);
+            try{
+                e.task.run ();
+            } catch (RuntimeException | Error t){
+                failures.incrementAndGet ();
+                t.printStackTrace ();
+            }
+        }
+    }
+
+    // Only the head of each queue is looked at: within a level the oldest task is always first.
+    private int pick (long now){
+        int best = -1;
+        long bestEffective = Long.MAX_VALUE;
+        for (int level = 0; level < queues.length; level++){
+            Entry head = queues [level].peekFirst ();
+            if (head == null)
+                continue;
+            long effective = level - (now - head.enqueued) / agingNanos;
+            if (effective < bestEffective){
+                best = level;
+                bestEffective = effective;
+            }
+        }
+        return best;
+    }
+}
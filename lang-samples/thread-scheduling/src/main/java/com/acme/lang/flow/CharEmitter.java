@@ -0,0 +1,138 @@
+package com.acme.lang.flow;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The publishing half shared by every stage: one subscriber, its outstanding
+ * demand, and a drain loop that runs on the given executor. drain() may be
+ * called from any thread; a work-in-progress counter makes sure only one drain
+ * loop runs at a time and that a call made while it runs causes one more pass, so
+ * signals reach the subscriber serially, as Flow requires, without a lock and
+ * without a thread of the stage's own.
+ */
+abstract class CharEmitter implements Flow.Publisher<Character> {
+
+    private final Executor executor;
+    private final AtomicReference<Flow.Subscriber<? super Character>> subscriber = new AtomicReference<> ();
+    private final AtomicLong demand = new AtomicLong ();
+    private final AtomicInteger wip = new AtomicInteger ();
+    // Set once onSubscribe has returned; until then the drain loop must not signal the subscriber.
+    private volatile boolean subscribed;
+    private volatile boolean cancelled;
+    private volatile boolean completed;
+    private volatile Throwable failure;
+    // Only touched inside the drain loop.
+    private boolean done;
+
+    CharEmitter (Executor executor){
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe (Flow.Subscriber<? super Character> s){
+        Objects.requireNonNull (s);
+        if (!subscriber.compareAndSet (null, s)){
+            s.onSubscribe (new Flow.Subscription () {
+                public void request (long n){
+                }
+                public void cancel (){
+                }
+            });
+            s.onError (new IllegalStateException ("only one subscriber is supported"));
+            return;
+        }
+        s.onSubscribe (new Flow.Subscription () {
+            public void request (long n){
+                if (n <= 0){
+                    signalError (new IllegalArgumentException ("non-positive request: " + n));
+                    return;
+                }
+                demand.getAndUpdate (d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+                drain ();
+            }
+
+            public void cancel (){
+                if (!cancelled){
+                    cancelled = true;
+                    onCancel ();
+                    drain ();
+                }
+            }
+        });
+        subscribed = true;
+        drain ();
+    }
+
+    /** Ends the stream once everything already buffered has been emitted. */
+    protected void signalComplete (){
+        completed = true;
+        drain ();
+    }
+
+    /** Ends the stream at the next drain pass, dropping anything still buffered. */
+    protected void signalError (Throwable t){
+        failure = Objects.requireNonNull (t);
+        drain ();
+    }
+
+    protected final void drain (){
+        if (wip.getAndIncrement () == 0)
+            executor.execute (this::drainLoop);
+    }
+
+    /** Outstanding demand of the subscriber; 0 before anyone subscribed. */
+    protected final long demand (){
+        return demand.get ();
+    }
+
+    /** Emits up to {@code max} chars that are ready now through onNext and returns how many. */
+    protected abstract long emit (Flow.Subscriber<? super Character> s, long max);
+
+    /** True when nothing is buffered for emission. */
+    protected abstract boolean exhausted ();
+
+    protected void onCancel (){
+    }
+
+    /**
+     * Drops whatever is buffered once the stream is cancelled or has ended; runs
+     * inside the drain loop, so it never overlaps emit().
+     */
+    protected void discard (){
+    }
+
+    private void drainLoop (){
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super Character> s = subscribed ? subscriber.get () : null;
+            if (s != null && !done && !cancelled){
+                try{
+                    long d = demand.get ();
+                    long sent = emit (s, d);
+                    if (sent > 0 && d != Long.MAX_VALUE)
+                        demand.addAndGet (-sent);
+                    Throwable t = failure;
+                    if (t != null){
+                        done = true;
+                        s.onError (t);
+                    } else if (completed && exhausted ()){
+                        done = true;
+                        s.onComplete ();
+                    }
+                } catch (Throwable t){
+                    done = true;
+                    onCancel ();
+                    s.onError (t);
+                }
+            }
+            if (done || cancelled)
+                discard ();
+            missed = wip.addAndGet (-missed);
+        } while (missed != 0);
+    }
+}
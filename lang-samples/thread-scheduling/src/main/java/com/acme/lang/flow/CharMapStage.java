@@ -0,0 +1,88 @@
+package com.acme.lang.flow;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * A middle stage that applies a function to every char. It asks upstream for no
+ * more than its own subscriber has requested, in requests of up to {@code batch},
+ * so demand travels back through the pipeline and nothing piles up in between.
+ * The function runs in this stage's drain loop on the shared executor.
+ */
+public class CharMapStage extends CharEmitter implements Flow.Processor<Character, Character> {
+
+    private final UnaryOperator<Character> function;
+    private final int batch;
+    private final Queue<Character> queue = new ConcurrentLinkedQueue<> ();
+    // Requested from upstream and not yet received.
+    private final AtomicLong outstanding = new AtomicLong ();
+    private volatile Flow.Subscription upstream;
+
+    public CharMapStage (UnaryOperator<Character> function, Executor executor, int batch){
+        super (executor);
+        if (batch < 1)
+            throw new IllegalArgumentException ("batch must be positive: " + batch);
+        this.function = function;
+        this.batch = batch;
+    }
+
+    @Override
+    public void onSubscribe (Flow.Subscription subscription){
+        if (upstream != null){
+            subscription.cancel ();
+            return;
+        }
+        upstream = subscription;
+        drain ();
+    }
+
+    @Override
+    public void onNext (Character item){
+        queue.offer (item);
+        outstanding.decrementAndGet ();
+        drain ();
+    }
+
+    @Override
+    public void onError (Throwable t){
+        signalError (t);
+    }
+
+    @Override
+    public void onComplete (){
+        signalComplete ();
+    }
+
+    @Override
+    protected long emit (Flow.Subscriber<? super Character> s, long max){
+        long sent = 0;
+        Character c;
+        while (sent < max && (c = queue.poll ()) != null){
+            s.onNext (function.apply (c));
+            sent++;
+        }
+        Flow.Subscription up = upstream;
+        long want = Math.min (max - sent - outstanding.get () - queue.size (), batch);
+        if (up != null && want > 0){
+            outstanding.addAndGet (want);
+            up.request (want);
+        }
+        return sent;
+    }
+
+    @Override
+    protected boolean exhausted (){
+        return queue.isEmpty ();
+    }
+
+    @Override
+    protected void onCancel (){
+        Flow.Subscription up = upstream;
+        if (up != null)
+            up.cancel ();
+    }
+}
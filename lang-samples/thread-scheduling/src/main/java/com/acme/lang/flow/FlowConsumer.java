@@ -0,0 +1,62 @@
+package com.acme.lang.flow;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+
+/**
+ * Consumer as a Flow.Subscriber: it requests {@code batch} chars, prints each,
+ * and asks for the next batch once the current one has arrived. The stream ends
+ * with onComplete or onError rather than when a 'Z' goes by.
+ */
+public class FlowConsumer implements Flow.Subscriber<Character> {
+
+    private final int batch;
+    private final CountDownLatch finished = new CountDownLatch (1);
+    private Flow.Subscription subscription;
+    private int received;
+    private volatile long total;
+    private volatile Throwable failure;
+
+    public FlowConsumer (int batch){
+        if (batch < 1)
+            throw new IllegalArgumentException ("batch must be positive: " + batch);
+        this.batch = batch;
+    }
+
+    @Override
+    public void onSubscribe (Flow.Subscription subscription){
+        this.subscription = subscription;
+        subscription.request (batch);
+    }
+
+    @Override
+    public void onNext (Character item){
+        System.out.println (item + " consumed by consumer.");
+        total++;
+        if (++received == batch){
+            received = 0;
+            subscription.request (batch);
+        }
+    }
+
+    @Override
+    public void onError (Throwable t){
+        failure = t;
+        finished.countDown ();
+    }
+
+    @Override
+    public void onComplete (){
+        finished.countDown ();
+    }
+
+    /** Waits for onComplete or onError; returns the error, or null after a normal completion. */
+    public Throwable await () throws InterruptedException {
+        finished.await ();
+        return failure;
+    }
+
+    public long total (){
+        return total;
+    }
+}
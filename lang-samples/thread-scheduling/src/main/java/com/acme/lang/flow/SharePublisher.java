@@ -0,0 +1,93 @@
+package com.acme.lang.flow;
+
+import com.acme.lang.model.CharSink;
+import com.acme.lang.model.Share;
+
+import java.nio.CharBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes what a thread-based producer writes into a Share. The producer
+ * writes through {@link #input()}; the chars are taken out of the Share only as
+ * far as the subscriber has requested them, up to {@code batch} per drainTo, so a
+ * slow subscriber fills the Share and the producer blocks in setSharedChar
+ * instead of sleeping at random. complete() and error() end the stream in place
+ * of the 'Z' sentinel. Once the subscriber cancels, or the stream has ended,
+ * every write is taken out of the Share and dropped, so the producer never
+ * blocks on a subscriber that is gone.
+ */
+public class SharePublisher extends CharEmitter {
+
+    private final Share share;
+    private final CharBuffer batch;
+    // Chars the producer has finished writing and no drain has taken yet.
+    private final AtomicLong available = new AtomicLong ();
+    private final CharSink input = new CharSink () {
+        public void setSharedChar (char c){
+            share.setSharedChar (c);
+            available.incrementAndGet ();
+            drain ();
+        }
+    };
+
+    public SharePublisher (Share share, Executor executor, int batch){
+        super (executor);
+        if (batch < 1)
+            throw new IllegalArgumentException ("batch must be positive: " + batch);
+        this.share = share;
+        this.batch = CharBuffer.allocate (batch);
+    }
+
+    /**
+     * The sink a producer writes into; the reading side is the subscriber. Writes
+     * are counted one char at a time, so that a Share smaller than a bulk write
+     * cannot block the producer on chars no drain knows about yet.
+     */
+    public CharSink input (){
+        return input;
+    }
+
+    public void complete (){
+        signalComplete ();
+    }
+
+    public void error (Throwable t){
+        signalError (t);
+    }
+
+    @Override
+    protected long emit (Flow.Subscriber<? super Character> s, long max){
+        long sent = 0;
+        long n;
+        while (sent < max && (n = Math.min (Math.min (max - sent, available.get ()), batch.capacity ())) > 0){
+            batch.clear ();
+            // Every counted char is already in the Share, so these drainTo calls never block.
+            while (batch.position () < n)
+                share.drainTo (batch, (int) n - batch.position ());
+            available.addAndGet (-n);
+            batch.flip ();
+            while (batch.hasRemaining ())
+                s.onNext (batch.get ());
+            sent += n;
+        }
+        return sent;
+    }
+
+    @Override
+    protected void discard (){
+        long n;
+        while ((n = Math.min (available.get (), batch.capacity ())) > 0){
+            batch.clear ();
+            while (batch.position () < n)
+                share.drainTo (batch, (int) n - batch.position ());
+            available.addAndGet (-n);
+        }
+    }
+
+    @Override
+    protected boolean exhausted (){
+        return available.get () == 0;
+    }
+}
@@ -0,0 +1,146 @@
+package com.acme.lang.io;
+
+import java.io.Closeable;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * Splits a byte channel into lines through one reusable direct buffer. Each
+ * line is handed to the sink as a view of the buffer, valid only during the
+ * call, so reading allocates nothing per line or per byte. Newlines are found
+ * eight bytes at a time with a SWAR test on longs.
+ * <p>
+ * A blocked read ends as soon as the reader is closed from another thread
+ * (AsynchronousCloseException) or, for interruptible channels such as the one
+ * {@link #stdin()} returns, as soon as the reading thread is interrupted
+ * (ClosedByInterruptException), which System.in.read() cannot do.
+ * <p>
+ * The buffer grows for long lines, but only up to {@code maxLineLength}; a longer
+ * line, or input with no '\n' at all, fails with an IOException instead of
+ * growing direct memory without bound.
+ */
+public class ChannelLineReader implements Closeable {
+
+    /** Receives one line without its '\n'; {@code line} must not be kept after the call. */
+    public interface LineSink {
+        void line (ByteBuffer line);
+    }
+
+    private static final long NEWLINES = 0x0a0a0a0a0a0a0a0aL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    /** Longest line, in bytes, the reader grows its buffer for unless told otherwise. */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 1 << 20;
+
+    private final ReadableByteChannel channel;
+    // A full buffer of this size holds a line of maxLineLength bytes plus its '\n'.
+    private final int maxCapacity;
+    private ByteBuffer buffer;
+    private ByteBuffer view;
+
+    public ChannelLineReader (ReadableByteChannel channel, int bufferSize){
+        this (channel, bufferSize, Math.max (bufferSize - 1, DEFAULT_MAX_LINE_LENGTH));
+    }
+
+    public ChannelLineReader (ReadableByteChannel channel, int bufferSize, int maxLineLength){
+        if (bufferSize < 8)
+            throw new IllegalArgumentException ("bufferSize must be at least 8: " + bufferSize);
+        if (maxLineLength < bufferSize - 1 || maxLineLength > 1 << 30)
+            throw new IllegalArgumentException ("maxLineLength must be in " + (bufferSize - 1) + ".."
+                    + (1 << 30) + ": " + maxLineLength);
+        this.channel = channel;
+        this.maxCapacity = maxLineLength + 1;
+        allocate (bufferSize);
+    }
+
+    /** Standard input through a FileChannel, which close() and interrupt() can unblock. */
+    public static ChannelLineReader stdin (){
+        return new ChannelLineReader (new FileInputStream (FileDescriptor.in).getChannel (), 1 << 16);
+    }
+
+    public static ChannelLineReader open (Path path) throws IOException {
+        return new ChannelLineReader (FileChannel.open (path), 1 << 16);
+    }
+
+    /**
+     * Reads to the end of input and passes every line to {@code sink}, including a
+     * last one without a trailing '\n'. Returns the number of lines. A line longer
+     * than the buffer makes the buffer grow; one longer than maxLineLength throws.
+     */
+    public long forEachLine (LineSink sink) throws IOException {
+        long lines = 0;
+        int scanFrom = 0;
+        while (channel.read (buffer) >= 0){
+            int end = buffer.position ();
+            int start = 0;
+            int nl;
+            while ((nl = indexOfNewline (scanFrom, end)) >= 0){
+                deliver (sink, start, nl);
+                lines++;
+                start = scanFrom = nl + 1;
+            }
+            if (start == 0 && end == buffer.capacity ()){
+                grow ();
+                scanFrom = end;
+                continue;
+            }
+            // Keep the unfinished line, moved to the front.
+            buffer.limit (end).position (start);
+            buffer.compact ();
+            scanFrom = end - start;
+        }
+        if (buffer.position () > 0){
+            deliver (sink, 0, buffer.position ());
+            lines++;
+        }
+        buffer.clear ();
+        return lines;
+    }
+
+    @Override
+    public void close () throws IOException {
+        channel.close ();
+    }
+
+    private int indexOfNewline (int from, int end){
+        int i = from;
+        for (; i + 8 <= end; i += 8){
+            long x = buffer.getLong (i) ^ NEWLINES;
+            // Sets the high bit of the lowest zero byte of x, i.e. of the first '\n'; bits above it may be noise.
+            long found = (x - LOW_BITS) & ~x & HIGH_BITS;
+            if (found != 0)
+                return i + (Long.numberOfTrailingZeros (found) >>> 3);
+        }
+        for (; i < end; i++)
+            if (buffer.get (i) == '\n')
+                return i;
+        return -1;
+    }
+
+    private void deliver (LineSink sink, int from, int to){
+        view.clear ();
+        view.position (from).limit (to);
+        sink.line (view);
+    }
+
+    private void grow () throws IOException {
+        ByteBuffer old = buffer;
+        if (old.capacity () >= maxCapacity)
+            throw new IOException ("line longer than " + (maxCapacity - 1) + " bytes");
+        allocate ((int) Math.min (maxCapacity, 2L * old.capacity ()));
+        old.flip ();
+        buffer.put (old);
+    }
+
+    private void allocate (int size){
+        buffer = ByteBuffer.allocateDirect (size).order (ByteOrder.LITTLE_ENDIAN);
+        view = buffer.duplicate ();
+    }
+}
@@ -0,0 +1,44 @@
+package com.acme.lang.io;
+
+import com.acme.lang.model.Share;
+
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * Reader over a Share fed by a ShareWriter. A read drains whatever the Share has
+ * ready straight into the caller's array, through a CharBuffer wrapping it, and
+ * reports end of stream once the writer's {@link ShareWriter#END} arrives.
+ */
+public class ShareReader extends Reader {
+
+    private final Share s;
+    private boolean ended;
+
+    public ShareReader (Share s){
+        this.s = s;
+    }
+
+    @Override
+    public int read (char [] cbuf, int off, int len){
+        if (len == 0)
+            return 0;
+        if (ended)
+            return -1;
+        CharBuffer dst = CharBuffer.wrap (cbuf, off, len);
+        int n = s.drainTo (dst, len);
+        // END is the last char the writer sends, so it can only be the last one drained.
+        if (cbuf [off + n - 1] == ShareWriter.END){
+            ended = true;
+            n--;
+            if (n == 0)
+                return -1;
+        }
+        return n;
+    }
+
+    @Override
+    public void close (){
+        ended = true;
+    }
+}
@@ -0,0 +1,54 @@
+package com.acme.lang.io;
+
+import com.acme.lang.model.CharSink;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer onto a Share, or any CharSink. Each write is one setSharedChars call,
+ * so a BufferedWriter in front turns single chars into bulk transfers. close()
+ * sends {@link #END} to tell a ShareReader that the stream is over.
+ */
+public class ShareWriter extends Writer {
+
+    /** End-of-stream marker; a noncharacter, so it never occurs in text. */
+    public static final char END = '\uffff';
+
+    private final CharSink s;
+    private boolean closed;
+
+    public ShareWriter (CharSink s){
+        this.s = s;
+    }
+
+    @Override
+    public void write (int c) throws IOException {
+        ensureOpen ();
+        s.setSharedChar ((char) c);
+    }
+
+    @Override
+    public void write (char [] cbuf, int off, int len) throws IOException {
+        ensureOpen ();
+        s.setSharedChars (cbuf, off, len);
+    }
+
+    @Override
+    public void flush (){
+        // Chars are visible to the reader as soon as write returns.
+    }
+
+    @Override
+    public void close (){
+        if (!closed){
+            closed = true;
+            s.setSharedChar (END);
+        }
+    }
+
+    private void ensureOpen () throws IOException {
+        if (closed)
+            throw new IOException ("writer closed");
+    }
+}
@@ -0,0 +1,20 @@
+package com.acme.lang.model;
+
+import java.util.Objects;
+
+/** The writing half of a Share, for callers that only ever hand chars over. */
+public interface CharSink {
+
+    public void setSharedChar (char c);
+
+    /**
+     * Hands over {@code len} chars in order, blocking as setSharedChar does until all
+     * of them are in. Implementations that can take several chars per
+     * synchronization override this; the default is one setSharedChar per char.
+     */
+    public default void setSharedChars (char [] src, int off, int len){
+        Objects.checkFromIndexSize (off, len, src.length);
+        for (int i = 0; i < len; i++)
+            setSharedChar (src [off + i]);
+    }
+}
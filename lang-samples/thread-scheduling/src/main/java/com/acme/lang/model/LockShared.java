@@ -0,0 +1,45 @@
+package com.acme.lang.model;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * UpShared's one-slot handoff on a ReentrantLock and two conditions. A virtual
+ * thread waiting here unmounts from its carrier, where UpShared's Object.wait()
+ * pins it; separate conditions also mean a signal only wakes the other side.
+ * Like UpShared it keeps waiting through interrupts.
+ */
+public class LockShared implements Share {
+
+    private final ReentrantLock lock = new ReentrantLock ();
+    private final Condition notFull = lock.newCondition ();
+    private final Condition notEmpty = lock.newCondition ();
+    private char c = '\u0000';
+    private boolean writeable = true;
+
+    public void setSharedChar (char c){
+        lock.lock ();
+        try{
+            while (!writeable)
+                notFull.awaitUninterruptibly ();
+            this.c = c;
+            writeable = false;
+            notEmpty.signal ();
+        } finally {
+            lock.unlock ();
+        }
+    }
+
+    public char getSharedChar (){
+        lock.lock ();
+        try{
+            while (writeable)
+                notEmpty.awaitUninterruptibly ();
+            writeable = true;
+            notFull.signal ();
+            return c;
+        } finally {
+            lock.unlock ();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.acme.lang.model;
+
+import com.acme.lang.idle.IdleStrategies;
+import com.acme.lang.idle.IdleStrategy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Supplier;
+
+/**
+ * Share for any number of producers and consumers, without a lock. Producers
+ * claim positions by CAS on a tail sequence and consumers on a head sequence;
+ * every slot carries its own sequence number, which tells a claimant whether the
+ * slot is free for position p (sequence == p), holds the char for p
+ * (sequence == p + 1), or still belongs to the previous lap. Publishing a slot is
+ * a release store of its sequence, so a consumer never waits on another
+ * consumer, and nobody can wake the wrong party as UpShared's single notify()
+ * could with more than one thread per side.
+ * <p>
+ * A full ring blocks setSharedChar and an empty one blocks getSharedChar by
+ * idling; interrupts do not end the wait.
+ */
+public class MpmcShared implements Share {
+
+    private static final VarHandle SLOT_SEQUENCE = MethodHandles.arrayElementVarHandle (long [].class);
+
+    private final char [] buffer;
+    private final long [] sequences;
+    private final int mask;
+    private final Sequence tail = new Sequence ();
+    private final Sequence head = new Sequence ();
+    private final Supplier<IdleStrategy> idleStrategies;
+
+    public MpmcShared (int capacity){
+        this (capacity, () -> IdleStrategies.fromProperty ("backoff"));
+    }
+
+    /** {@code idleStrategies} is asked for a fresh strategy each time a call has to wait. */
+    public MpmcShared (int capacity, Supplier<IdleStrategy> idleStrategies){
+        if (capacity < 2 || Integer.bitCount (capacity) != 1)
+            throw new IllegalArgumentException ("capacity must be a power of two of at least 2: " + capacity);
+        this.buffer = new char [capacity];
+        this.sequences = new long [capacity];
+        for (int i = 0; i < capacity; i++)
+            sequences [i] = i;
+        this.mask = capacity - 1;
+        this.idleStrategies = idleStrategies;
+    }
+
+    public int capacity (){
+        return buffer.length;
+    }
+
+    public void setSharedChar (char c){
+        IdleStrategy idle = null;
+        while (true){
+            long t = tail.get ();
+            int slot = (int) t & mask;
+            long diff = (long) SLOT_SEQUENCE.getAcquire (sequences, slot) - t;
+            if (diff == 0){
+                if (tail.compareAndSet (t, t + 1)){
+                    buffer [slot] = c;
+                    SLOT_SEQUENCE.setRelease (sequences, slot, t + 1);
+                    return;
+                }
+            } else if (diff < 0){
+                // The consumer of the previous lap has not taken this slot yet: full.
+                if (idle == null)
+                    idle = idleStrategies.get ();
+                idle.idle ();
+            }
+        }
+    }
+
+    public char getSharedChar (){
+        IdleStrategy idle = null;
+        while (true){
+            long h = head.get ();
+            int slot = (int) h & mask;
+            long diff = (long) SLOT_SEQUENCE.getAcquire (sequences, slot) - (h + 1);
+            if (diff == 0){
+                if (head.compareAndSet (h, h + 1)){
+                    char c = buffer [slot];
+                    // Free the slot for the producer one lap ahead.
+                    SLOT_SEQUENCE.setRelease (sequences, slot, h + buffer.length);
+                    return c;
+                }
+            } else if (diff < 0){
+                // Nothing published for this position yet: empty.
+                if (idle == null)
+                    idle = idleStrategies.get ();
+                idle.idle ();
+            }
+        }
+    }
+}
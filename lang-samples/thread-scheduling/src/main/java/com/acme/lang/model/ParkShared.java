@@ -0,0 +1,181 @@
+package com.acme.lang.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * UpShared's one-slot handoff without a monitor: a VarHandle state word says
+ * whether the slot is full, a waiting side spins briefly and then parks, and the
+ * other side unparks it directly after flipping the state. The spin phase adapts
+ * per side, growing after spins that caught the handoff and shrinking after spins
+ * that ended in a park, and is off on a single CPU.
+ * <p>
+ * put/take and the timed trySet/tryGet throw InterruptedException;
+ * setSharedChar/getSharedChar keep waiting through an interrupt, as Share
+ * callers expect, but re-assert the interrupt status before returning instead of
+ * swallowing it. One producer and one consumer thread.
+ */
+public class ParkShared implements Share {
+
+    private static final int EMPTY = 0;
+    private static final int FULL = 1;
+
+    private static final int MIN_SPINS = 16;
+    private static final int MAX_SPINS = Runtime.getRuntime ().availableProcessors () > 1 ? 1 << 14 : 0;
+
+    private static final VarHandle STATE;
+
+    static {
+        try{
+            STATE = MethodHandles.lookup ().findVarHandle (ParkShared.class, "state", int.class);
+        } catch (ReflectiveOperationException e){
+            throw new ExceptionInInitializerError (e);
+        }
+    }
+
+    private char c = '\u0000';
+    private volatile int state = EMPTY;
+    private volatile Thread producer;
+    private volatile Thread consumer;
+    private int producerSpins = MAX_SPINS;
+    private int consumerSpins = MAX_SPINS;
+
+    public void setSharedChar (char c){
+        boolean interrupted = false;
+        while (true){
+            try{
+                put (c);
+                break;
+            } catch (InterruptedException e){
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread ().interrupt ();
+    }
+
+    public char getSharedChar (){
+        boolean interrupted = false;
+        char c;
+        while (true){
+            try{
+                c = take ();
+                break;
+            } catch (InterruptedException e){
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread ().interrupt ();
+        return c;
+    }
+
+    public void put (char c) throws InterruptedException {
+        awaitProducerTurn (0);
+        publish (c);
+    }
+
+    public char take () throws InterruptedException {
+        awaitConsumerTurn (0);
+        return consume ();
+    }
+
+    /** Returns false if the slot stayed full for the whole timeout. */
+    public boolean trySet (char c, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!awaitProducerTurn (System.nanoTime () + Math.max (1, unit.toNanos (timeout))))
+            return false;
+        publish (c);
+        return true;
+    }
+
+    /** Returns the char, or -1 if the slot stayed empty for the whole timeout. */
+    public int tryGet (long timeout, TimeUnit unit) throws InterruptedException {
+        if (!awaitConsumerTurn (System.nanoTime () + Math.max (1, unit.toNanos (timeout))))
+            return -1;
+        return consume ();
+    }
+
+    private void publish (char c){
+        this.c = c;
+        // Volatile, not release: the store must be ordered before the read of the waiter below,
+        // mirroring the waiter's store of itself before its re-read of the state.
+        STATE.setVolatile (this, FULL);
+        Thread w = consumer;
+        if (w != null)
+            LockSupport.unpark (w);
+    }
+
+    private char consume (){
+        char c = this.c;
+        STATE.setVolatile (this, EMPTY);
+        Thread w = producer;
+        if (w != null)
+            LockSupport.unpark (w);
+        return c;
+    }
+
+    // Halves after a spin that missed, but never below MIN_SPINS, or the side would stop spinning for good.
+    private static int shrink (int spins){
+        return MAX_SPINS == 0 ? 0 : Math.max (MIN_SPINS, spins / 2);
+    }
+
+    // A deadline of 0 means no timeout.
+    private boolean awaitProducerTurn (long deadline) throws InterruptedException {
+        if (state == EMPTY)
+            return true;
+        int spins = producerSpins;
+        for (int i = 0; i < spins; i++){
+            Thread.onSpinWait ();
+            if (state == EMPTY){
+                producerSpins = Math.min (MAX_SPINS, Math.max (MIN_SPINS, spins * 2));
+                return true;
+            }
+        }
+        producerSpins = shrink (spins);
+        producer = Thread.currentThread ();
+        try{
+            return park (FULL, deadline);
+        } finally {
+            producer = null;
+        }
+    }
+
+    private boolean awaitConsumerTurn (long deadline) throws InterruptedException {
+        if (state == FULL)
+            return true;
+        int spins = consumerSpins;
+        for (int i = 0; i < spins; i++){
+            Thread.onSpinWait ();
+            if (state == FULL){
+                consumerSpins = Math.min (MAX_SPINS, Math.max (MIN_SPINS, spins * 2));
+                return true;
+            }
+        }
+        consumerSpins = shrink (spins);
+        consumer = Thread.currentThread ();
+        try{
+            return park (EMPTY, deadline);
+        } finally {
+            consumer = null;
+        }
+    }
+
+    // Parks while the state is still {@code blocking}; the caller has registered itself as waiter.
+    private boolean park (int blocking, long deadline) throws InterruptedException {
+        while (state == blocking){
+            if (Thread.interrupted ())
+                throw new InterruptedException ();
+            if (deadline == 0)
+                LockSupport.park (this);
+            else {
+                long left = deadline - System.nanoTime ();
+                if (left <= 0)
+                    return false;
+                LockSupport.parkNanos (this, left);
+            }
+        }
+        return true;
+    }
+}
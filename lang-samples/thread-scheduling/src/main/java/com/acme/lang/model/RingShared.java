@@ -0,0 +1,155 @@
+package com.acme.lang.model;
+
+import com.acme.lang.idle.IdleStrategies;
+import com.acme.lang.idle.IdleStrategy;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * Single-producer single-consumer Share on a power-of-two char ring, so the
+ * producer can run up to {@code capacity} chars ahead of the consumer instead of
+ * handing over one char per monitor round trip as UpShared does.
+ * <p>
+ * The producer owns {@code tail} and the consumer owns {@code head}; each is
+ * published with a release store (lazySet) and sits on its own cache line
+ * together with the owner's cached copy of the other index, so neither side
+ * touches the other's line until its cached view says the ring is full or empty.
+ * A full ring blocks setSharedChar and an empty one blocks getSharedChar, by
+ * idling rather than wait(); like UpShared, interrupts do not end the wait.
+ * Exactly one thread may call each method.
+ * <p>
+ * The bulk operations copy whole runs with at most two array copies and publish
+ * each run with a single release store, so the per-char cost of the handoff
+ * shrinks with the run length.
+ */
+public class RingShared extends RingHead implements Share {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try{
+            MethodHandles.Lookup lookup = MethodHandles.lookup ();
+            HEAD = lookup.findVarHandle (RingHead.class, "head", long.class);
+            TAIL = lookup.findVarHandle (RingTail.class, "tail", long.class);
+        } catch (ReflectiveOperationException e){
+            throw new ExceptionInInitializerError (e);
+        }
+    }
+
+    private final char [] buffer;
+    private final int mask;
+    private final IdleStrategy producerIdle;
+    private final IdleStrategy consumerIdle;
+
+    public RingShared (int capacity){
+        this (capacity, IdleStrategies.fromProperty ("backoff"), IdleStrategies.fromProperty ("backoff"));
+    }
+
+    public RingShared (int capacity, IdleStrategy producerIdle, IdleStrategy consumerIdle){
+        if (capacity < 1 || Integer.bitCount (capacity) != 1)
+            throw new IllegalArgumentException ("capacity must be a power of two: " + capacity);
+        this.buffer = new char [capacity];
+        this.mask = capacity - 1;
+        this.producerIdle = producerIdle;
+        this.consumerIdle = consumerIdle;
+    }
+
+    public int capacity (){
+        return buffer.length;
+    }
+
+    public void setSharedChar (char c){
+        long t = tail;
+        if (t - headCache >= buffer.length){
+            while (t - (headCache = (long) HEAD.getAcquire (this)) >= buffer.length)
+                producerIdle.idle ();
+            producerIdle.reset ();
+        }
+        buffer [(int) t & mask] = c;
+        TAIL.setRelease (this, t + 1);
+    }
+
+    public char getSharedChar (){
+        long h = head;
+        if (h >= tailCache){
+            while (h >= (tailCache = (long) TAIL.getAcquire (this)))
+                consumerIdle.idle ();
+            consumerIdle.reset ();
+        }
+        char c = buffer [(int) h & mask];
+        HEAD.setRelease (this, h + 1);
+        return c;
+    }
+
+    @Override
+    public void setSharedChars (char [] src, int off, int len){
+        Objects.checkFromIndexSize (off, len, src.length);
+        while (len > 0){
+            long t = tail;
+            long free = buffer.length - (t - headCache);
+            if (free <= 0){
+                while ((free = buffer.length - (t - (headCache = (long) HEAD.getAcquire (this)))) <= 0)
+                    producerIdle.idle ();
+                producerIdle.reset ();
+            }
+            int n = (int) Math.min (len, free);
+            int from = (int) t & mask;
+            int first = Math.min (n, buffer.length - from);
+            System.arraycopy (src, off, buffer, from, first);
+            System.arraycopy (src, off + first, buffer, 0, n - first);
+            TAIL.setRelease (this, t + n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    @Override
+    public int drainTo (CharBuffer dst, int max){
+        int wanted = Math.min (max, dst.remaining ());
+        if (wanted <= 0)
+            return 0;
+        long h = head;
+        long available = tailCache - h;
+        if (available <= 0){
+            while ((available = (tailCache = (long) TAIL.getAcquire (this)) - h) <= 0)
+                consumerIdle.idle ();
+            consumerIdle.reset ();
+        }
+        int n = (int) Math.min (wanted, available);
+        int from = (int) h & mask;
+        int first = Math.min (n, buffer.length - from);
+        dst.put (buffer, from, first);
+        dst.put (buffer, 0, n - first);
+        HEAD.setRelease (this, h + n);
+        return n;
+    }
+}
+
+// Superclass fields are laid out before subclass fields, so this chain keeps the
+// producer's and the consumer's indices 128 bytes apart from each other and from
+// the object header and the final fields of RingShared.
+
+abstract class RingPad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07, p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+}
+
+abstract class RingTail extends RingPad0 {
+    // Written by the producer only.
+    long tail;
+    long headCache;
+}
+
+abstract class RingPad1 extends RingTail {
+    long p10, p11, p12, p13, p14, p15, p16, p17, p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+}
+
+abstract class RingHead extends RingPad1 {
+    // Written by the consumer only.
+    long head;
+    long tailCache;
+    long p20, p21, p22, p23, p24, p25, p26, p27, p28, p29, p2a, p2b, p2c, p2d, p2e, p2f;
+}
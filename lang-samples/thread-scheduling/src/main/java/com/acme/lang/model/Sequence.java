@@ -0,0 +1,39 @@
+package com.acme.lang.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A counter on a cache line of its own, for the claim sequences that several
+ * threads CAS concurrently. The padding is split over a class chain because
+ * superclass fields are laid out first.
+ */
+class Sequence extends SequenceValue {
+    long p10, p11, p12, p13, p14, p15, p16, p17, p18, p19, p1a, p1b, p1c, p1d, p1e, p1f;
+
+    private static final VarHandle VALUE;
+
+    static {
+        try{
+            VALUE = MethodHandles.lookup ().findVarHandle (SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e){
+            throw new ExceptionInInitializerError (e);
+        }
+    }
+
+    long get (){
+        return (long) VALUE.getVolatile (this);
+    }
+
+    boolean compareAndSet (long expected, long next){
+        return VALUE.compareAndSet (this, expected, next);
+    }
+}
+
+abstract class SequencePad {
+    long p00, p01, p02, p03, p04, p05, p06, p07, p08, p09, p0a, p0b, p0c, p0d, p0e, p0f;
+}
+
+abstract class SequenceValue extends SequencePad {
+    long value;
+}
@@ -1,7 +1,20 @@
 package com.acme.lang.model;
 
-public interface Share {
+import java.nio.CharBuffer;
+
+public interface Share extends CharSink {
 
-    public void setSharedChar (char c);
     public char getSharedChar ();
+
+    /**
+     * Blocks until at least one char is available, then moves up to {@code max}
+     * chars into {@code dst} and returns how many. Returns 0 without blocking when
+     * {@code max} or {@code dst.remaining ()} is 0. The default moves exactly one.
+     */
+    public default int drainTo (CharBuffer dst, int max){
+        if (Math.min (max, dst.remaining ()) <= 0)
+            return 0;
+        dst.put (getSharedChar ());
+        return 1;
+    }
 }
@@ -1,24 +1,35 @@
 package com.acme.lang.thread;
 
+import com.acme.lang.io.ChannelLineReader;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+
 public class BlockingThread extends Thread {
-    private boolean finished = false;
+    // System.in.read() cannot be unblocked; closing this channel ends a pending read at once.
+    private final ChannelLineReader reader = ChannelLineReader.stdin ();
 
     @Override
     public void run (){
-        while (!finished){
-            try{
-                int i;
-                do{
-                    i = System.in.read ();
-                    System.out.print (i + " ");
-                }
-                while (i != '\n');
-                System.out.print ('\n');
-            } catch (java.io.IOException e) {}
-        }
+        StringBuilder sb = new StringBuilder ();
+        try{
+            reader.forEachLine (line -> {
+                // Same output as the old byte loop: every byte's value, the newline's included.
+                sb.setLength (0);
+                while (line.hasRemaining ())
+                    sb.append (line.get () & 0xff).append (' ');
+                sb.append ((int) '\n').append (' ').append ('\n');
+                System.out.print (sb);
+            });
+        } catch (ClosedChannelException e) {
+            // setFinished (true) closed the reader, or the thread was interrupted.
+        } catch (IOException e) {}
     }
     public void setFinished (boolean f)
     {
-        finished = f;
+        if (f)
+            try{
+                reader.close ();
+            } catch (IOException e) {}
     }
 }
@@ -0,0 +1,33 @@
+package com.acme.lang.thread;
+
+import com.acme.lang.model.Share;
+
+import java.nio.CharBuffer;
+
+/** Consumer that takes whatever the Share has ready with drainTo, until it sees 'Z'. */
+public class BulkConsumer extends Thread {
+    private Share s;
+    private int maxSleepMillis;
+
+    public BulkConsumer (Share s, int maxSleepMillis){
+        this.s = s;
+        this.maxSleepMillis = maxSleepMillis;
+    }
+
+    @Override
+    public void run (){
+        CharBuffer buffer = CharBuffer.allocate (26);
+        char last;
+        do {
+            try{
+                Thread.sleep ((int) (Math.random () * maxSleepMillis));
+            } catch (InterruptedException e) {}
+            buffer.clear ();
+            s.drainTo (buffer, buffer.remaining ());
+            buffer.flip ();
+            last = buffer.get (buffer.limit () - 1);
+            System.out.println (buffer + " consumed by consumer.");
+        }
+        while (last != 'Z');
+    }
+}
@@ -0,0 +1,33 @@
+package com.acme.lang.thread;
+
+import com.acme.lang.model.CharSink;
+
+/** Producer that hands over the alphabet {@code chunk} chars per setSharedChars call. */
+public class BulkProducer extends Thread {
+    private CharSink s;
+    private int chunk;
+    private int maxSleepMillis;
+
+    public BulkProducer (CharSink s, int chunk, int maxSleepMillis) {
+        if (chunk < 1)
+            throw new IllegalArgumentException ("chunk must be positive: " + chunk);
+        this.s = s;
+        this.chunk = chunk;
+        this.maxSleepMillis = maxSleepMillis;
+    }
+
+    @Override
+    public void run (){
+        char [] alphabet = new char [26];
+        for (int i = 0; i < alphabet.length; i++)
+            alphabet [i] = (char) ('A' + i);
+        for (int off = 0; off < alphabet.length; off += chunk){
+            try{
+                Thread.sleep ((int) (Math.random () * maxSleepMillis));
+            }catch (InterruptedException e) {}
+            int len = Math.min (chunk, alphabet.length - off);
+            s.setSharedChars (alphabet, off, len);
+            System.out.println (new String (alphabet, off, len) + " produced by producer.");
+        }
+    }
+}
@@ -1,16 +1,40 @@
 package com.acme.lang.thread;
 
+import com.acme.lang.cache.MemoCache;
+import com.acme.lang.pi.ChudnovskyPi;
+import com.acme.lang.pi.PiKey;
+
+import java.math.BigDecimal;
+
 public class CalculationThread extends Thread{
 
+    // calcPI () sums this many terms, 1, -1/3, ..., -1/99999; the cache key uses the same count.
+    private static final int LEIBNIZ_TERMS = 50000;
+
+    // 0 keeps the original Leibniz loop, anything else selects Chudnovsky with that many digits.
+    private final int digits;
+    // Null computes every time, as the original sample does.
+    private final MemoCache<PiKey, Number> cache;
+
     public CalculationThread (String name){
+        this (name, 0);
+    }
+
+    public CalculationThread (String name, int digits){
+        this (name, digits, null);
+    }
+
+    public CalculationThread (String name, int digits, MemoCache<PiKey, Number> cache){
         // Pass name to Thread layer.
         super (name);
+        this.digits = digits;
+        this.cache = cache;
     }
 
-    double calcPI (){
+    public double calcPI (){
         boolean negative = true;
         double pi = 0.0;
-        for (int i = 3; i < 100000; i += 2){
+        for (int i = 3; i < 2 * LEIBNIZ_TERMS; i += 2){
             if (negative)
                 pi -= (1.0 / i);
             else
@@ -22,10 +46,22 @@ public class CalculationThread extends Thread{
         return pi;
     }
 
+    public BigDecimal calcPIDigits (){
+        return ChudnovskyPi.compute (digits);
+    }
+
+    public Number pi (){
+        if (cache == null)
+            return digits == 0 ? (Number) calcPI () : calcPIDigits ();
+        if (digits == 0)
+            return cache.get (new PiKey (PiKey.Algorithm.LEIBNIZ_LOOP, LEIBNIZ_TERMS), this::calcPI);
+        return cache.get (new PiKey (PiKey.Algorithm.CHUDNOVSKY, digits), this::calcPIDigits);
+    }
+
     @Override
     public void run () {
         for (int i = 0; i < 5; i++)
-            System.out.println (getName () + ": " + calcPI ());
+            System.out.println (getName () + ": " + pi ());
     }
 
 }
@@ -4,9 +4,15 @@ import com.acme.lang.model.Share;
 
 public class Consumer extends Thread {
     private Share s;
+    private int maxSleepMillis;
 
     public Consumer (Share s){
+        this (s, 4000);
+    }
+
+    public Consumer (Share s, int maxSleepMillis){
         this.s = s;
+        this.maxSleepMillis = maxSleepMillis;
     }
 
     @Override
@@ -14,7 +20,7 @@ public class Consumer extends Thread {
         char ch;
         do {
             try{
-                Thread.sleep ((int) (Math.random () * 4000));
+                Thread.sleep ((int) (Math.random () * maxSleepMillis));
             } catch (InterruptedException e) {}
             ch = s.getSharedChar ();
             System.out.println (ch + " consumed by consumer.");
@@ -1,19 +1,25 @@
 package com.acme.lang.thread;
 
-import com.acme.lang.model.Share;
+import com.acme.lang.model.CharSink;
 
 public class Producer extends Thread {
-    private Share s;
+    private CharSink s;
+    private int maxSleepMillis;
 
-    public Producer (Share s) {
+    public Producer (CharSink s) {
+        this (s, 4000);
+    }
+
+    public Producer (CharSink s, int maxSleepMillis) {
         this.s = s;
+        this.maxSleepMillis = maxSleepMillis;
     }
 
     @Override
     public void run (){
         for (char ch = 'A'; ch <= 'Z'; ch++){
             try{
-                Thread.sleep ((int) (Math.random () * 4000));
+                Thread.sleep ((int) (Math.random () * maxSleepMillis));
             }catch (InterruptedException e) {}
             s.setSharedChar (ch);
             System.out.println (ch + " produced by producer.");
@@ -2,7 +2,10 @@ package com.acme.lang.thread;
 
 public class SummingThread extends Thread
 {
-    private boolean finished = false;
+    // volatile, or the JIT may hoist the read and the loop never sees setFinished(true).
+    private volatile boolean finished = false;
+
+    // The CPU hog PrioritySample relies on: every pass does work, so there is nothing to idle on.
     public void run ()
     {
         int sum = 0;
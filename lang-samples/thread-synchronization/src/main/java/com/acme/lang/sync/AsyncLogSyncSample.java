@@ -0,0 +1,23 @@
+package com.acme.lang.sync;
+
+import com.acme.lang.sync.log.AsyncTransLog;
+import com.acme.lang.sync.model.FinTrans;
+import com.acme.lang.sync.thread.UpTransThread;
+
+public class AsyncLogSyncSample {
+
+    public static void main (String [] args) throws InterruptedException
+    {
+        // UpSyncSample, except update() hands its line to the ring instead of printing under the monitor.
+        AsyncTransLog log = AsyncTransLog.stdout (1024);
+        FinTrans ft = new FinTrans (log);
+        UpTransThread tt1 = new UpTransThread (ft, "Deposit Thread");
+        UpTransThread tt2 = new UpTransThread (ft, "Withdrawal Thread");
+        tt1.start ();
+        tt2.start ();
+        tt1.join ();
+        tt2.join ();
+        log.close ();
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.acme.lang.sync;
+
+import com.acme.lang.sync.combine.CombiningFinTrans;
+import com.acme.lang.sync.model.FinTrans;
+import com.acme.lang.sync.thread.BatchTransThread;
+import com.acme.lang.sync.thread.CombiningTransThread;
+
+public class CombiningSyncSample {
+
+    public static void main (String [] args) throws InterruptedException
+    {
+        int threads = args.length == 0 ? 8 : Integer.parseInt (args [0]);
+
+        // UpSyncSample with each thread's 100 updates posted as batches of 10.
+        FinTrans ft = new FinTrans ();
+        BatchTransThread bt1 = new BatchTransThread (ft, "Deposit Thread", 10);
+        BatchTransThread bt2 = new BatchTransThread (ft, "Withdrawal Thread", 10);
+        bt1.start ();
+        bt2.start ();
+        bt1.join ();
+        bt2.join ();
+
+        // Many single-update threads; whichever holds the combiner flag applies the rest.
+        CombiningFinTrans cft = new CombiningFinTrans (new FinTrans ());
+        CombiningTransThread [] tts = new CombiningTransThread [threads];
+        for (int i = 0; i < threads; i++){
+            tts [i] = new CombiningTransThread (cft, (i % 2 == 0 ? "Deposit Thread " : "Withdrawal Thread ") + i);
+            tts [i].start ();
+        }
+        for (CombiningTransThread tt : tts)
+            tt.join ();
+        System.out.println ("mean combined batch: " + cft.meanBatchSize ());
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.acme.lang.sync;
+
+import com.acme.lang.sync.journal.Journal;
+import com.acme.lang.sync.journal.JournalRecord;
+import com.acme.lang.sync.log.JournalTransLog;
+import com.acme.lang.sync.model.FinTrans;
+import com.acme.lang.sync.thread.UpTransThread;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public class JournalSample {
+
+    public static void main (String [] args) throws Exception
+    {
+        Path dir = Paths.get (args.length == 0 ? "journal" : args [0]);
+        int threads = args.length < 2 ? 4 : Integer.parseInt (args [1]);
+        int appends = args.length < 3 ? 2000000 : Integer.parseInt (args [2]);
+        int batch = args.length < 4 ? 1000 : Integer.parseInt (args [3]);
+
+        try (Journal journal = new Journal (dir, 1 << 20)){
+            long first = journal.nextSequence ();
+
+            // UpSyncSample's transactions, journaled instead of printed.
+            FinTrans ft = new FinTrans (new JournalTransLog (journal));
+            UpTransThread tt1 = new UpTransThread (ft, "Deposit Thread");
+            UpTransThread tt2 = new UpTransThread (ft, "Withdrawal Thread");
+            tt1.start ();
+            tt2.start ();
+            tt1.join ();
+            tt2.join ();
+
+            // Raw append rate with a group commit every batch records per thread.
+            Thread [] workers = new Thread [threads];
+            long start = System.nanoTime ();
+            for (int t = 0; t < threads; t++){
+                workers [t] = new Thread (() -> {
+                    long seq = 0;
+                    for (int i = 1; i <= appends; i++){
+                        seq = journal.append (i % 2 == 0 ? JournalRecord.DEPOSIT : JournalRecord.WITHDRAWAL,
+                                i % 2 == 0 ? 2000.0 : 250.0);
+                        if (i % batch == 0)
+                            journal.sync (seq);
+                    }
+                    journal.sync (seq);
+                });
+                workers [t].start ();
+            }
+            for (Thread w : workers)
+                w.join ();
+            long nanos = System.nanoTime () - start;
+            System.out.println ((long) threads * appends * 1000000000L / nanos + " appends/s with "
+                    + threads + " threads, sync every " + batch);
+            System.out.println ("appended " + (journal.nextSequence () - first) + " records this run");
+        }
+
+        // Rebuild the state the journal describes: totals per type and the last transaction.
+        double [] totals = new double [3];
+        long [] last = new long [1];
+        long start = System.nanoTime ();
+        long records = Journal.replay (dir, (seq, type, amount, threadId, ts) -> {
+            totals [type] += amount;
+            last [0] = seq;
+        });
+        long nanos = System.nanoTime () - start;
+        System.out.println ("replayed " + records + " records in " + nanos / 1000000 + " ms: deposits "
+                + totals [JournalRecord.DEPOSIT] + ", withdrawals " + totals [JournalRecord.WITHDRAWAL]
+                + ", last sequence " + last [0]);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.acme.lang.sync;
+
+import com.acme.lang.sync.ledger.Ledger;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LedgerSample {
+
+    public static void main (String [] args) throws InterruptedException {
+        int accounts = args.length == 0 ? 1000000 : Integer.parseInt (args [0]);
+        int threads = args.length < 2 ? Runtime.getRuntime ().availableProcessors () : Integer.parseInt (args [1]);
+        int transfers = args.length < 3 ? 1000000 : Integer.parseInt (args [2]);
+
+        Ledger ledger = new Ledger (accounts, 1024);
+        for (int i = 0; i < accounts; i++)
+            ledger.deposit (i, 10000);
+        long before = ledger.total ();
+
+        LongAdder done = new LongAdder ();
+        Thread [] workers = new Thread [threads];
+        long start = System.nanoTime ();
+        for (int t = 0; t < threads; t++){
+            // Random pairs in both directions: the pattern that deadlocks DeadTransThread.
+            workers [t] = new Thread (() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current ();
+                for (int i = 0; i < transfers; i++){
+                    if (ledger.transfer (rnd.nextInt (accounts), rnd.nextInt (accounts), rnd.nextInt (5000)))
+                        done.increment ();
+                }
+            });
+            workers [t].start ();
+        }
+        for (Thread w : workers)
+            w.join ();
+        long nanos = System.nanoTime () - start;
+
+        System.out.println (threads + " threads, " + accounts + " accounts: "
+                + (long) threads * transfers * 1000000000L / nanos + " transfers/s, " + done.sum () + " applied");
+        System.out.println ("total before = " + before + ", after = " + ledger.total ());
+    }
+}
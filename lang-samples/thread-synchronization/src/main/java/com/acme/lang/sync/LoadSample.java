@@ -0,0 +1,37 @@
+package com.acme.lang.sync;
+
+import com.acme.lang.sync.load.LoadDriver;
+import com.acme.lang.sync.load.TransStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * java ... LoadSample [strategy|all] [threads] [rate, 0 = closed loop] [maxHoldMicros] [thinkMicros] [seconds]
+ */
+public class LoadSample {
+
+    public static void main (String [] args) throws InterruptedException
+    {
+        String which = args.length == 0 ? "all" : args [0];
+        int threads = args.length < 2 ? 8 : Integer.parseInt (args [1]);
+        double rate = args.length < 3 ? 0 : Double.parseDouble (args [2]);
+        long holdMicros = args.length < 4 ? 100 : Long.parseLong (args [3]);
+        long thinkMicros = args.length < 5 ? 0 : Long.parseLong (args [4]);
+        long seconds = args.length < 6 ? 3 : Long.parseLong (args [5]);
+
+        TransStrategy [] strategies = which.equalsIgnoreCase ("all")
+                ? TransStrategy.values ()
+                : new TransStrategy [] {TransStrategy.valueOf (which.toUpperCase ())};
+        for (TransStrategy strategy : strategies){
+            System.out.println (new LoadDriver (strategy)
+                    .threads (threads)
+                    .rate (rate)
+                    .maxHold (holdMicros, TimeUnit.MICROSECONDS)
+                    .think (thinkMicros, TimeUnit.MICROSECONDS)
+                    .duration (seconds, TimeUnit.SECONDS)
+                    .run ());
+            System.out.println ();
+        }
+    }
+
+}
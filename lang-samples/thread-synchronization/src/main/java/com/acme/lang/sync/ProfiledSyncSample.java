@@ -0,0 +1,51 @@
+package com.acme.lang.sync;
+
+import com.acme.lang.sync.model.FinTrans;
+import com.acme.lang.sync.profile.LockProfiler;
+import com.acme.lang.sync.profile.ProfiledLock;
+import com.acme.lang.sync.thread.ProfiledTransThread;
+
+public class ProfiledSyncSample {
+
+    public static void main (String [] args) throws InterruptedException
+    {
+        int iterations = args.length == 0 ? 100 : Integer.parseInt (args [0]);
+        int maxSleep = args.length < 2 ? 5 : Integer.parseInt (args [1]);
+        int updaters = args.length < 3 ? 8 : Integer.parseInt (args [2]);
+
+        LockProfiler profiler = new LockProfiler ();
+        // The transactions themselves are not printed, only the profile.
+        FinTrans ft = new FinTrans ((transName, amount) -> {});
+
+        // SyncSample's workload on each kind of lock.
+        run (profiler.monitor ("ft monitor", ft), ft, iterations, maxSleep);
+        run (profiler.reentrant ("ft ReentrantLock"), ft, iterations, maxSleep);
+        run (profiler.stamped ("ft StampedLock"), ft, iterations, maxSleep);
+
+        // FinTrans.update hammered by several threads; update() locks ft again, reentrantly.
+        ProfiledLock update = profiler.monitor ("FinTrans.update", ft);
+        Thread [] threads = new Thread [updaters];
+        for (int t = 0; t < updaters; t++){
+            threads [t] = new Thread (() -> {
+                for (int i = 0; i < 100000; i++)
+                    update.run (() -> ft.update ("Deposit", 2000.0));
+            });
+            threads [t].start ();
+        }
+        for (Thread t : threads)
+            t.join ();
+
+        System.out.print (profiler.dump ());
+    }
+
+    private static void run (ProfiledLock lock, FinTrans ft, int iterations, int maxSleep) throws InterruptedException
+    {
+        ProfiledTransThread tt1 = new ProfiledTransThread (lock, ft, "Deposit Thread", iterations, maxSleep);
+        ProfiledTransThread tt2 = new ProfiledTransThread (lock, ft, "Withdrawal Thread", iterations, maxSleep);
+        tt1.start ();
+        tt2.start ();
+        tt1.join ();
+        tt2.join ();
+    }
+
+}
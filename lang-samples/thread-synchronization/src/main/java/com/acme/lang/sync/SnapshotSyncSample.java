@@ -0,0 +1,17 @@
+package com.acme.lang.sync;
+
+import com.acme.lang.sync.model.SnapshotFinTrans;
+import com.acme.lang.sync.thread.SnapshotTransThread;
+
+public class SnapshotSyncSample {
+
+    public static void main (String [] args)
+    {
+        SnapshotFinTrans ft = new SnapshotFinTrans ();
+        SnapshotTransThread tt1 = new SnapshotTransThread (ft, "Deposit Thread");
+        SnapshotTransThread tt2 = new SnapshotTransThread (ft, "Withdrawal Thread");
+        tt1.start ();
+        tt2.start ();
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.acme.lang.sync;
+
+import com.acme.lang.launch.PinningMonitor;
+import com.acme.lang.launch.TaskLauncher;
+import com.acme.lang.launch.ThreadFactories;
+import com.acme.lang.sync.model.FinTrans;
+import com.acme.lang.sync.thread.SyncTransThread;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class VirtualSyncSample {
+
+    public static void main (String [] args) throws InterruptedException {
+        // virtual|platform, number of transaction tasks, iterations per task, max sleep inside the lock
+        // Defaults to virtual threads where the runtime has them; platform runs are kept to a count an OS can start.
+        String mode = args.length == 0 ? ThreadFactories.defaultMode () : args [0];
+        int tasks = args.length < 2 ? (mode.equals ("virtual") ? 100000 : 1000) : Integer.parseInt (args [1]);
+        int iterations = args.length < 3 ? 10 : Integer.parseInt (args [2]);
+        int maxSleep = args.length < 4 ? 10 : Integer.parseInt (args [3]);
+
+        // One FinTrans per deposit/withdrawal pair, so tasks contend in pairs rather than all on one monitor.
+        List<Thread> work = new ArrayList<> (tasks);
+        for (int i = 0; i < tasks; i += 2){
+            FinTrans ft = new FinTrans ();
+            work.add (new SyncTransThread (ft, "Deposit Thread", iterations, maxSleep));
+            work.add (new SyncTransThread (ft, "Withdrawal Thread", iterations, maxSleep));
+        }
+
+        PrintStream out = System.out;
+        System.setOut (new PrintStream (OutputStream.nullOutputStream ()));
+        try (PinningMonitor pinning = new PinningMonitor (Duration.ofMillis (1))){
+            long nanos = new TaskLauncher (ThreadFactories.named (mode)).launch (work);
+            out.println (work.size () + " " + mode + " tasks finished in " + nanos / 1000000 + " ms");
+            // SyncTransThread sleeps inside synchronized (ft): every one of those sleeps pins a carrier.
+            out.println (pinning.report ());
+        } finally {
+            System.setOut (out);
+        }
+    }
+}
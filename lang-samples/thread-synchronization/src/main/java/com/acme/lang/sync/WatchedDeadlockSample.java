@@ -0,0 +1,33 @@
+package com.acme.lang.sync;
+
+import com.acme.lang.sync.model.FinTrans;
+import com.acme.lang.sync.thread.DeadTransThread;
+import com.acme.lang.sync.watchdog.DeadlockWatchdog;
+
+import java.util.concurrent.TimeUnit;
+
+public class WatchedDeadlockSample {
+
+    public static void main (String [] args) throws InterruptedException
+    {
+        // "fail" halts the JVM once the deadlock is found; otherwise it is only reported.
+        DeadlockWatchdog.Action action = args.length > 0 && args [0].equals ("fail")
+                ? DeadlockWatchdog.Action.FAIL_FAST : DeadlockWatchdog.Action.REPORT;
+        DeadlockWatchdog watchdog = new DeadlockWatchdog (100, 1500, TimeUnit.MILLISECONDS, action);
+
+        FinTrans ft = new FinTrans ();
+        DeadTransThread tt1 = new DeadTransThread (ft, "Deposit Thread");
+        DeadTransThread tt2 = new DeadTransThread (ft, "Withdrawal Thread");
+        tt1.setDaemon (true);
+        tt2.setDaemon (true);
+        tt1.start ();
+        tt2.start ();
+
+        while (watchdog.deadlocksFound () == 0 && (tt1.isAlive () || tt2.isAlive ()))
+            Thread.sleep (100);
+        System.out.println (watchdog.polls () + " polls, " + watchdog.meanPollCpuNanos () / 1000
+                + " us CPU each, " + watchdog.longBlockedFound () + " long-blocked reports");
+        watchdog.close ();
+    }
+
+}
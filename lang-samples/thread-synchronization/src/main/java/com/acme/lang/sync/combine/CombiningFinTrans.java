@@ -0,0 +1,110 @@
+package com.acme.lang.sync.combine;
+
+import com.acme.lang.sync.model.FinTrans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Flat-combining front end for FinTrans. A caller posts its update to its own
+ * slot and then either becomes the combiner, if it wins the combiner flag, or
+ * waits for its slot to be cleared. The combiner collects every pending slot
+ * and applies them all through one FinTrans.update(batch), so under contention
+ * the FinTrans monitor and its fields move between cores once per batch
+ * instead of once per update.
+ * <p>
+ * Slots are per thread and are never unlinked; a pool of long-lived workers is
+ * the intended use.
+ */
+public class CombiningFinTrans {
+
+    static final class Slot {
+        volatile FinTrans.Update pending;
+        Slot next;
+    }
+
+    private static final int MAX_PASSES = 4;
+    private static final int SPINS_BEFORE_YIELD = 128;
+
+    private final FinTrans ft;
+    private final AtomicBoolean combining = new AtomicBoolean ();
+    private final AtomicReference<Slot> slots = new AtomicReference<> ();
+    private final ThreadLocal<Slot> localSlot = ThreadLocal.withInitial (this::register);
+
+    // Only touched by the thread holding the combiner flag.
+    private final List<FinTrans.Update> batch = new ArrayList<> ();
+    private final List<Slot> served = new ArrayList<> ();
+    private long batches;
+    private long updates;
+
+    public CombiningFinTrans (FinTrans ft){
+        this.ft = ft;
+    }
+
+    public void update (String transName, double amount){
+        Slot slot = localSlot.get ();
+        slot.pending = new FinTrans.Update (transName, amount);
+        int spins = 0;
+        while (slot.pending != null){
+            if (!combining.get () && combining.compareAndSet (false, true)){
+                try{
+                    combine ();
+                } finally {
+                    combining.set (false);
+                }
+            } else if (++spins % SPINS_BEFORE_YIELD == 0)
+                Thread.yield ();
+            else
+                Thread.onSpinWait ();
+        }
+    }
+
+    public FinTrans finTrans (){
+        return ft;
+    }
+
+    /** Mean number of updates applied per combiner pass; 1.0 means no combining happened. */
+    public double meanBatchSize (){
+        while (!combining.compareAndSet (false, true))
+            Thread.onSpinWait ();
+        try{
+            return batches == 0 ? 0.0 : (double) updates / batches;
+        } finally {
+            combining.set (false);
+        }
+    }
+
+    private void combine (){
+        for (int pass = 0; pass < MAX_PASSES; pass++){
+            for (Slot s = slots.get (); s != null; s = s.next){
+                FinTrans.Update u = s.pending;
+                if (u != null){
+                    batch.add (u);
+                    served.add (s);
+                }
+            }
+            if (batch.isEmpty ())
+                return;
+            ft.update (batch);
+            // Release the waiters only after their updates are visible in FinTrans.
+            for (int i = 0; i < served.size (); i++)
+                served.get (i).pending = null;
+            batches++;
+            updates += batch.size ();
+            batch.clear ();
+            served.clear ();
+        }
+    }
+
+    private Slot register (){
+        Slot slot = new Slot ();
+        Slot head;
+        do{
+            head = slots.get ();
+            slot.next = head;
+        } while (!slots.compareAndSet (head, slot));
+        return slot;
+    }
+}
@@ -0,0 +1,270 @@
+package com.acme.lang.sync.journal;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Append-only transaction journal of fixed 32-byte records in memory-mapped
+ * segment files. Appenders claim a sequence number with one atomic increment and
+ * write their record straight into the mapping, so many threads append in
+ * parallel without a lock; a record becomes visible when its checksum is
+ * written last, with release semantics. Segments roll over every
+ * {@code recordsPerSegment} records.
+ * <p>
+ * Durability is a group commit: {@link #sync(long)} forces everything appended
+ * so far with one force() per touched segment, and every caller whose record is
+ * covered by that force returns without forcing again.
+ * <p>
+ * Record layout, little endian: timestamp millis (8), thread id (8), amount (8),
+ * type (4), checksum (4). Replay stops at the first record whose checksum does
+ * not match, which is how a torn tail after a crash is cut off. Opening an
+ * existing journal resumes after its last valid record; reopen it with the same
+ * {@code recordsPerSegment}.
+ * <p>
+ * If a segment cannot be mapped, the sequence number already claimed for it is
+ * never written. The journal is then marked failed: further appends, and any
+ * sync that would have to wait for the hole, throw instead of waiting forever.
+ */
+public class Journal implements AutoCloseable {
+
+    static final int RECORD_SIZE = 32;
+    private static final int CHECKSUM_OFFSET = 28;
+    private static final String SUFFIX = ".seg";
+
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle (int [].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path dir;
+    private final int recordsPerSegment;
+    private final long startSequence;
+    private final AtomicLong claimed;
+    private final ConcurrentMap<Long, Segment> segments = new ConcurrentHashMap<> ();
+    private final Object commitLock = new Object ();
+    private volatile long durable;
+    private volatile RuntimeException failure;
+
+    public Journal (Path dir, int recordsPerSegment) throws IOException {
+        if (recordsPerSegment < 1)
+            throw new IllegalArgumentException ("recordsPerSegment must be positive: " + recordsPerSegment);
+        this.dir = dir;
+        this.recordsPerSegment = recordsPerSegment;
+        Files.createDirectories (dir);
+        long next = replay (dir, (seq, type, amount, threadId, ts) -> {});
+        // Segments past the one being resumed hold nothing replay would accept.
+        for (Path file : segmentFiles (dir))
+            if (baseOf (file) > next / recordsPerSegment * recordsPerSegment)
+                Files.delete (file);
+        this.startSequence = next;
+        this.claimed = new AtomicLong (next);
+        this.durable = next;
+    }
+
+    /** Appends one record and returns its sequence number; not yet durable. */
+    public long append (int type, double amount){
+        checkFailure ();
+        long seq = claimed.getAndIncrement ();
+        Segment s;
+        try{
+            s = segment (seq / recordsPerSegment);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        }
+        int offset = (int) (seq % recordsPerSegment) * RECORD_SIZE;
+        long ts = System.currentTimeMillis ();
+        long tid = Thread.currentThread ().getId ();
+        long bits = Double.doubleToRawLongBits (amount);
+        MappedByteBuffer buf = s.buf;
+        buf.putLong (offset, ts);
+        buf.putLong (offset + 8, tid);
+        buf.putLong (offset + 16, bits);
+        buf.putInt (offset + 24, type);
+        INT.setRelease (buf, offset + CHECKSUM_OFFSET, checksum (ts, tid, bits, type));
+        if (s.written.incrementAndGet () == recordsPerSegment)
+            s.full = true;
+        return seq;
+    }
+
+    /** Blocks until every record up to and including {@code seq} has been forced to disk. */
+    public void sync (long seq){
+        if (seq < durable)
+            return;
+        synchronized (commitLock){
+            if (seq < durable)
+                return;
+            // Everything contiguously written so far goes out with this force, not just seq.
+            long target = durable;
+            long limit = claimed.get ();
+            while (target < limit && written (target))
+                target++;
+            while (target <= seq){
+                // A failed append left a hole that will never be filled.
+                checkFailure ();
+                Thread.onSpinWait ();
+                limit = claimed.get ();
+                while (target < limit && written (target))
+                    target++;
+            }
+            force (durable, target);
+            durable = target;
+        }
+    }
+
+    public long nextSequence (){
+        return claimed.get ();
+    }
+
+    @Override
+    public void close (){
+        synchronized (commitLock){
+            long limit = claimed.get ();
+            long target = durable;
+            while (target < limit && written (target))
+                target++;
+            force (durable, target);
+            durable = target;
+        }
+        segments.clear ();
+    }
+
+    /**
+     * Feeds every valid record of the journal in {@code dir} to {@code handler} in
+     * sequence order and returns the sequence number after the last one.
+     */
+    public static long replay (Path dir, JournalRecord handler) throws IOException {
+        long next = 0;
+        for (Path file : segmentFiles (dir)){
+            long base = baseOf (file);
+            if (base != next)
+                break; // a gap: nothing after it can be trusted
+            try (FileChannel ch = FileChannel.open (file, StandardOpenOption.READ)){
+                MappedByteBuffer buf = ch.map (FileChannel.MapMode.READ_ONLY, 0, ch.size ());
+                buf.order (ByteOrder.LITTLE_ENDIAN);
+                int records = (int) (ch.size () / RECORD_SIZE);
+                for (int i = 0; i < records; i++){
+                    int offset = i * RECORD_SIZE;
+                    long ts = buf.getLong (offset);
+                    long tid = buf.getLong (offset + 8);
+                    long bits = buf.getLong (offset + 16);
+                    int type = buf.getInt (offset + 24);
+                    if (buf.getInt (offset + CHECKSUM_OFFSET) != checksum (ts, tid, bits, type))
+                        return next;
+                    handler.accept (next++, type, Double.longBitsToDouble (bits), tid, ts);
+                }
+            }
+        }
+        return next;
+    }
+
+    private void checkFailure (){
+        RuntimeException e = failure;
+        if (e != null)
+            throw new IllegalStateException ("journal failed: a claimed record was never written", e);
+    }
+
+    private boolean written (long seq){
+        Segment s = segments.get (seq / recordsPerSegment);
+        if (s == null)
+            return false;
+        int offset = (int) (seq % recordsPerSegment) * RECORD_SIZE;
+        return (int) INT.getAcquire (s.buf, offset + CHECKSUM_OFFSET) != 0;
+    }
+
+    // Forces records [from, to) and drops segments that are full and now durable.
+    private void force (long from, long to){
+        long seq = from;
+        while (seq < to){
+            long index = seq / recordsPerSegment;
+            long segmentEnd = Math.min (to, (index + 1) * recordsPerSegment);
+            Segment s = segments.get (index);
+            int start = (int) (seq % recordsPerSegment) * RECORD_SIZE;
+            s.buf.force (start, (int) (segmentEnd - seq) * RECORD_SIZE);
+            if (segmentEnd == (index + 1) * recordsPerSegment && s.full)
+                segments.remove (index);
+            seq = segmentEnd;
+        }
+    }
+
+    private Segment segment (long index){
+        Segment s = segments.get (index);
+        if (s != null)
+            return s;
+        synchronized (segments){
+            s = segments.get (index);
+            if (s == null){
+                s = open (index);
+                segments.put (index, s);
+            }
+            return s;
+        }
+    }
+
+    private Segment open (long index){
+        Path file = dir.resolve (String.format ("%020d%s", index * recordsPerSegment, SUFFIX));
+        try (FileChannel ch = FileChannel.open (file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)){
+            MappedByteBuffer buf = ch.map (FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+            buf.order (ByteOrder.LITTLE_ENDIAN);
+            Segment s = new Segment (buf);
+            // Resuming after a restart: keep the valid records and clear the checksums of the
+            // torn tail, so written() cannot mistake leftovers for new appends.
+            long first = index * recordsPerSegment;
+            int kept = (int) Math.max (0, Math.min (startSequence - first, recordsPerSegment));
+            if (index == startSequence / recordsPerSegment)
+                for (int i = kept; i < recordsPerSegment; i++)
+                    if (buf.getInt (i * RECORD_SIZE + CHECKSUM_OFFSET) != 0)
+                        buf.putInt (i * RECORD_SIZE + CHECKSUM_OFFSET, 0);
+            s.written.set (kept);
+            return s;
+        } catch (IOException e) {
+            throw new IllegalStateException ("cannot map journal segment " + file, e);
+        }
+    }
+
+    private static int checksum (long ts, long tid, long bits, int type){
+        long h = ts * 0x9E3779B97F4A7C15L ^ tid * 0xC2B2AE3D27D4EB4FL ^ bits * 0x165667B19E3779F9L ^ type;
+        int c = (int) (h ^ (h >>> 32));
+        return c == 0 ? 1 : c;
+    }
+
+    private static List<Path> segmentFiles (Path dir) throws IOException {
+        List<Path> files = new ArrayList<> ();
+        if (!Files.isDirectory (dir))
+            return files;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream (dir, "*" + SUFFIX)){
+            for (Path p : stream)
+                files.add (p);
+        }
+        Collections.sort (files);
+        return files;
+    }
+
+    private static long baseOf (Path file){
+        String name = file.getFileName ().toString ();
+        return Long.parseLong (name.substring (0, name.length () - SUFFIX.length ()));
+    }
+
+    private static final class Segment {
+        final MappedByteBuffer buf;
+        final AtomicInteger written = new AtomicInteger ();
+        volatile boolean full;
+
+        Segment (MappedByteBuffer buf){
+            this.buf = buf;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.acme.lang.sync.journal;
+
+/** Callback for {@link Journal#replay}; the values are those passed to {@link Journal#append}. */
+@FunctionalInterface
+public interface JournalRecord {
+
+    int DEPOSIT = 1;
+    int WITHDRAWAL = 2;
+
+    void accept (long sequence, int type, double amount, long threadId, long timestampMillis);
+}
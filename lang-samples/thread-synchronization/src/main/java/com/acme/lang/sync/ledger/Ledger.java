@@ -0,0 +1,144 @@
+package com.acme.lang.sync.ledger;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Account balances guarded by a fixed set of lock stripes. Accounts are striped
+ * in blocks of 16 adjacent balances (128 bytes, two cache lines), so writers
+ * under different stripes touch different lines instead of sharing one line per
+ * eight accounts; only the lines where two blocks meet can still be shared. A
+ * transfer takes the write locks of both stripes in ascending stripe order, so
+ * two opposite transfers can never end up in the DeadTransThread situation of
+ * each holding the lock the other needs.
+ * <p>
+ * The stripes are StampedLocks used in write mode as plain exclusive locks, so
+ * balance() can read optimistically and validate against the same lock the
+ * writers hold; it only takes a read lock when a writer got in the way.
+ * Amounts are in minor units (cents).
+ */
+public class Ledger {
+
+    private static final int BLOCK_SHIFT = 4;
+
+    private final long [] balances;
+    private final StampedLock [] stripes;
+    private final int mask;
+
+    public Ledger (int accounts, int stripes){
+        if (accounts < 1)
+            throw new IllegalArgumentException ("accounts must be positive: " + accounts);
+        if (stripes < 1 || Integer.bitCount (stripes) != 1)
+            throw new IllegalArgumentException ("stripes must be a power of two: " + stripes);
+        this.balances = new long [accounts];
+        this.stripes = new StampedLock [stripes];
+        for (int i = 0; i < stripes; i++)
+            this.stripes [i] = new StampedLock ();
+        this.mask = stripes - 1;
+    }
+
+    public int accounts (){
+        return balances.length;
+    }
+
+    public void deposit (int account, long amount){
+        checkAmount (amount);
+        StampedLock lock = stripes [stripe (account)];
+        long stamp = lock.writeLock ();
+        try{
+            balances [account] += amount;
+        } finally {
+            lock.unlockWrite (stamp);
+        }
+    }
+
+    /** Returns false, changing nothing, if the account holds less than {@code amount}. */
+    public boolean withdraw (int account, long amount){
+        checkAmount (amount);
+        StampedLock lock = stripes [stripe (account)];
+        long stamp = lock.writeLock ();
+        try{
+            if (balances [account] < amount)
+                return false;
+            balances [account] -= amount;
+            return true;
+        } finally {
+            lock.unlockWrite (stamp);
+        }
+    }
+
+    /** Moves {@code amount} atomically; returns false, changing nothing, if {@code from} cannot cover it. */
+    public boolean transfer (int from, int to, long amount){
+        checkAmount (amount);
+        int a = stripe (from);
+        int b = stripe (to);
+        if (a == b){
+            StampedLock lock = stripes [a];
+            long stamp = lock.writeLock ();
+            try{
+                return move (from, to, amount);
+            } finally {
+                lock.unlockWrite (stamp);
+            }
+        }
+        StampedLock first = stripes [Math.min (a, b)];
+        StampedLock second = stripes [Math.max (a, b)];
+        long s1 = first.writeLock ();
+        try{
+            long s2 = second.writeLock ();
+            try{
+                return move (from, to, amount);
+            } finally {
+                second.unlockWrite (s2);
+            }
+        } finally {
+            first.unlockWrite (s1);
+        }
+    }
+
+    public long balance (int account){
+        StampedLock lock = stripes [stripe (account)];
+        long stamp = lock.tryOptimisticRead ();
+        long balance = balances [account];
+        if (lock.validate (stamp))
+            return balance;
+        stamp = lock.readLock ();
+        try{
+            return balances [account];
+        } finally {
+            lock.unlockRead (stamp);
+        }
+    }
+
+    /** Sum of all balances at one instant: every stripe is read-locked, in order, for the duration. */
+    public long total (){
+        long [] stamps = new long [stripes.length];
+        for (int i = 0; i < stripes.length; i++)
+            stamps [i] = stripes [i].readLock ();
+        try{
+            long sum = 0;
+            for (long b : balances)
+                sum += b;
+            return sum;
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--)
+                stripes [i].unlockRead (stamps [i]);
+        }
+    }
+
+    private int stripe (int account){
+        return (account >>> BLOCK_SHIFT) & mask;
+    }
+
+    private boolean move (int from, int to, long amount){
+        if (balances [from] < amount)
+            return false;
+        balances [from] -= amount;
+        balances [to] += amount;
+        return true;
+    }
+
+    private static void checkAmount (long amount){
+        if (amount < 0)
+            throw new IllegalArgumentException ("amount must not be negative: " + amount);
+    }
+}
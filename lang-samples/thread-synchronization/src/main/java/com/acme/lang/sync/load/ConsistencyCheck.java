@@ -0,0 +1,31 @@
+package com.acme.lang.sync.load;
+
+import com.acme.lang.sync.log.TransLog;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TransLog that counts logged pairs no transaction could have produced, such as
+ * "Deposit 250.0", which is what an unprotected FinTrans prints under contention.
+ */
+public class ConsistencyCheck implements TransLog {
+
+    private final LongAdder checked = new LongAdder ();
+    private final LongAdder violations = new LongAdder ();
+
+    @Override
+    public void log (String transName, double amount){
+        checked.increment ();
+        if (!("Deposit".equals (transName) && amount == 2000.0)
+                && !("Withdrawal".equals (transName) && amount == 250.0))
+            violations.increment ();
+    }
+
+    public long checked (){
+        return checked.sum ();
+    }
+
+    public long violations (){
+        return violations.sum ();
+    }
+}
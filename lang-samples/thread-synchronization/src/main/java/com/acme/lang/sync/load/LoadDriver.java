@@ -0,0 +1,156 @@
+package com.acme.lang.sync.load;
+
+import com.acme.lang.stats.LatencyHistogram;
+import com.acme.lang.sync.model.FinTrans;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs one TransStrategy from N threads against a shared FinTrans for a fixed
+ * duration, alternating deposits and withdrawals as the two sample threads do.
+ * <p>
+ * Closed loop (rate 0): each thread starts its next transaction when the last one
+ * finished plus the think time. Open loop (rate &gt; 0): the total rate is split
+ * evenly, each thread follows a fixed schedule, and latency is measured from the
+ * scheduled start, so a thread that stalls is charged for every transaction it
+ * should have started meanwhile rather than for just one slow call. Nothing is
+ * started after the deadline: starts a worker is still behind on are reported
+ * as unsent, so an overloaded run ends on time.
+ * <p>
+ * Hold time is a uniform random park of up to {@code maxHold} inside the
+ * critical section, as the samples' {@code Math.random () * 1000} sleep.
+ * Workers are daemons; any still inside a transaction shortly after the deadline
+ * are reported as stalled and abandoned, which is how a DEADLOCK_PRONE run ends.
+ */
+public class LoadDriver {
+
+    private final TransStrategy strategy;
+    private int threads = 2;
+    private double rate;
+    private long maxHoldNanos;
+    private long thinkNanos;
+    private long durationNanos = TimeUnit.SECONDS.toNanos (5);
+
+    public LoadDriver (TransStrategy strategy){
+        this.strategy = strategy;
+    }
+
+    public LoadDriver threads (int threads){
+        if (threads < 1)
+            throw new IllegalArgumentException ("threads must be positive: " + threads);
+        this.threads = threads;
+        return this;
+    }
+
+    /** Total transactions per second across all threads; 0 for a closed loop. */
+    public LoadDriver rate (double perSecond){
+        if (perSecond < 0)
+            throw new IllegalArgumentException ("rate must not be negative: " + perSecond);
+        this.rate = perSecond;
+        return this;
+    }
+
+    public LoadDriver maxHold (long time, TimeUnit unit){
+        this.maxHoldNanos = unit.toNanos (time);
+        return this;
+    }
+
+    /** Pause between transactions in a closed loop; ignored in an open loop. */
+    public LoadDriver think (long time, TimeUnit unit){
+        this.thinkNanos = unit.toNanos (time);
+        return this;
+    }
+
+    public LoadDriver duration (long time, TimeUnit unit){
+        this.durationNanos = unit.toNanos (time);
+        return this;
+    }
+
+    public LoadReport run () throws InterruptedException {
+        ConsistencyCheck check = new ConsistencyCheck ();
+        FinTrans ft = new FinTrans (check);
+        // Fresh per run, so threads abandoned by a deadlocked run cannot block the next one.
+        Object secondLock = new Object ();
+        LatencyHistogram response = new LatencyHistogram ();
+        LatencyHistogram service = new LatencyHistogram ();
+        LongAdder completed = new LongAdder ();
+        LongAdder unsent = new LongAdder ();
+        AtomicIntegerArray inside = new AtomicIntegerArray (threads);
+
+        long intervalNanos = rate > 0 ? Math.max (1, (long) (threads * 1e9 / rate)) : 0;
+        long start = System.nanoTime () + TimeUnit.MILLISECONDS.toNanos (10);
+        long end = start + durationNanos;
+
+        Thread [] workers = new Thread [threads];
+        for (int t = 0; t < threads; t++){
+            int id = t;
+            boolean depositFirst = t % 2 == 0;
+            long first = start + (rate > 0 ? intervalNanos * t / threads : 0);
+            workers [t] = new Thread (() -> {
+                Object ownLock = new Object ();
+                ThreadLocalRandom rnd = ThreadLocalRandom.current ();
+                boolean deposit = depositFirst;
+                long intended = first;
+                parkUntil (intended);
+                while (intended < end){
+                    long begin = System.nanoTime ();
+                    if (begin >= end){
+                        // Behind schedule at the deadline: count what was never started.
+                        if (rate > 0)
+                            unsent.add ((end - intended + intervalNanos - 1) / intervalNanos);
+                        break;
+                    }
+                    if (rate == 0)
+                        intended = begin;
+                    inside.set (id, 1);
+                    strategy.transact (ft, secondLock, ownLock, deposit,
+                            maxHoldNanos > 0 ? rnd.nextLong (maxHoldNanos + 1) : 0);
+                    inside.set (id, 0);
+                    long done = System.nanoTime ();
+                    service.record (done - begin);
+                    response.record (done - intended);
+                    completed.increment ();
+                    deposit = !deposit;
+                    if (rate > 0){
+                        intended += intervalNanos;
+                        parkUntil (intended);
+                    } else {
+                        if (thinkNanos > 0)
+                            LockSupport.parkNanos (thinkNanos);
+                        intended = System.nanoTime ();
+                    }
+                }
+            }, strategy + "-" + t);
+            workers [t].setDaemon (true);
+            workers [t].start ();
+        }
+
+        long grace = TimeUnit.SECONDS.toNanos (1) + maxHoldNanos + thinkNanos;
+        int stalled = 0;
+        for (int t = 0; t < threads; t++){
+            long left = end + grace - System.nanoTime ();
+            if (left > 0)
+                TimeUnit.NANOSECONDS.timedJoin (workers [t], left);
+            if (workers [t].isAlive () && inside.get (t) == 1)
+                stalled++;
+        }
+        long elapsed = Math.min (System.nanoTime (), end) - start;
+        // Stalled workers are abandoned, not stopped; copy so a late record cannot change the report.
+        LatencyHistogram responseCopy = new LatencyHistogram ();
+        responseCopy.add (response);
+        LatencyHistogram serviceCopy = new LatencyHistogram ();
+        serviceCopy.add (service);
+        return new LoadReport (strategy, threads, rate, elapsed, completed.sum (), unsent.sum (),
+                responseCopy, serviceCopy, check.checked (), check.violations (), stalled);
+    }
+
+    private static void parkUntil (long deadline){
+        long left;
+        while ((left = deadline - System.nanoTime ()) > 0)
+            LockSupport.parkNanos (left);
+    }
+}
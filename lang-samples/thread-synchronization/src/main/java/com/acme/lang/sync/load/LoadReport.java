@@ -0,0 +1,63 @@
+package com.acme.lang.sync.load;
+
+import com.acme.lang.stats.LatencyHistogram;
+
+/**
+ * What one LoadDriver run measured. {@code response} is timed from each
+ * transaction's intended start, so in an open-loop run it includes the time a
+ * stalled worker spent falling behind schedule; {@code service} is timed from
+ * the actual start and shows only the transaction itself. Open-loop starts the
+ * workers were still behind on at the deadline are not issued; they are counted
+ * in {@code unsent} rather than recorded as latencies.
+ */
+public class LoadReport {
+
+    public final TransStrategy strategy;
+    public final int threads;
+    public final double targetRate;
+    public final long elapsedNanos;
+    public final long completed;
+    public final long unsent;
+    public final LatencyHistogram response;
+    public final LatencyHistogram service;
+    public final long checked;
+    public final long violations;
+    public final int stalledThreads;
+
+    LoadReport (TransStrategy strategy, int threads, double targetRate, long elapsedNanos, long completed,
+                long unsent, LatencyHistogram response, LatencyHistogram service, long checked, long violations,
+                int stalledThreads){
+        this.strategy = strategy;
+        this.threads = threads;
+        this.targetRate = targetRate;
+        this.elapsedNanos = elapsedNanos;
+        this.completed = completed;
+        this.unsent = unsent;
+        this.response = response;
+        this.service = service;
+        this.checked = checked;
+        this.violations = violations;
+        this.stalledThreads = stalledThreads;
+    }
+
+    public double throughput (){
+        return elapsedNanos == 0 ? 0.0 : completed * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString (){
+        StringBuilder sb = new StringBuilder ();
+        sb.append (strategy).append (", ").append (threads).append (" threads, ")
+                .append (targetRate > 0 ? "open loop at " + (long) targetRate + " tx/s" : "closed loop").append ('\n');
+        sb.append (String.format ("throughput: %.1f tx/s (%d in %.2f s)%n", throughput (), completed, elapsedNanos / 1e9));
+        if (unsent > 0)
+            sb.append ("unsent:     ").append (unsent).append (" scheduled starts still pending at the deadline\n");
+        sb.append ("response:   ").append (response.summary (1000, "us")).append ('\n');
+        sb.append ("service:    ").append (service.summary (1000, "us")).append ('\n');
+        sb.append ("violations: ").append (violations).append (" of ").append (checked).append (" logged pairs");
+        if (stalledThreads > 0)
+            sb.append ('\n').append ("stalled:    ").append (stalledThreads)
+                    .append (" threads stuck inside a transaction past the deadline (deadlock?)");
+        return sb.toString ();
+    }
+}
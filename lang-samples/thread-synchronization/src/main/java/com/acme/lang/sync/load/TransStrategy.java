@@ -0,0 +1,78 @@
+package com.acme.lang.sync.load;
+
+import com.acme.lang.sync.model.FinTrans;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One transaction of each *TransThread, as a single call the LoadDriver can time.
+ * {@code holdNanos} replaces the samples' random sleep inside the critical section;
+ * {@code secondLock} is shared by all threads of one run, {@code ownLock} by none.
+ */
+public enum TransStrategy {
+
+    /** TransThread: no lock at all. */
+    UNSYNCHRONIZED {
+        @Override
+        void transact (FinTrans ft, Object secondLock, Object ownLock, boolean deposit, long holdNanos){
+            write (ft, deposit, holdNanos);
+        }
+    },
+    /** SyncTransThread: synchronized (ft). */
+    SYNCHRONIZED {
+        @Override
+        void transact (FinTrans ft, Object secondLock, Object ownLock, boolean deposit, long holdNanos){
+            synchronized (ft){
+                write (ft, deposit, holdNanos);
+            }
+        }
+    },
+    /** WrongTransThread: every thread locks an object of its own. */
+    WRONG_LOCK {
+        @Override
+        void transact (FinTrans ft, Object secondLock, Object ownLock, boolean deposit, long holdNanos){
+            synchronized (ownLock){
+                write (ft, deposit, holdNanos);
+            }
+        }
+    },
+    /** UpTransThread: the synchronized FinTrans.update; there is no hold time to inject. */
+    UPDATE {
+        @Override
+        void transact (FinTrans ft, Object secondLock, Object ownLock, boolean deposit, long holdNanos){
+            if (deposit)
+                ft.update ("Deposit", 2000.0);
+            else
+                ft.update ("Withdrawal", 250.0);
+        }
+    },
+    /** DeadTransThread: deposits and withdrawals take the same two locks in opposite order. */
+    DEADLOCK_PRONE {
+        @Override
+        void transact (FinTrans ft, Object secondLock, Object ownLock, boolean deposit, long holdNanos){
+            if (deposit){
+                synchronized (ft){
+                    synchronized (secondLock){
+                        write (ft, deposit, holdNanos);
+                    }
+                }
+            } else {
+                synchronized (secondLock){
+                    synchronized (ft){
+                        write (ft, deposit, holdNanos);
+                    }
+                }
+            }
+        }
+    };
+
+    abstract void transact (FinTrans ft, Object secondLock, Object ownLock, boolean deposit, long holdNanos);
+
+    static void write (FinTrans ft, boolean deposit, long holdNanos){
+        ft.transName = deposit ? "Deposit" : "Withdrawal";
+        if (holdNanos > 0)
+            LockSupport.parkNanos (holdNanos);
+        ft.amount = deposit ? 2000.0 : 250.0;
+        ft.log (ft.transName, ft.amount);
+    }
+}
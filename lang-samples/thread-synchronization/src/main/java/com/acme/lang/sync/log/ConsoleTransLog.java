@@ -0,0 +1,10 @@
+package com.acme.lang.sync.log;
+
+/** The samples' original behavior: one synchronous System.out.println per transaction. */
+public class ConsoleTransLog implements TransLog {
+
+    @Override
+    public void log (String transName, double amount){
+        System.out.println (transName + " " + amount);
+    }
+}
@@ -0,0 +1,31 @@
+package com.acme.lang.sync.log;
+
+import com.acme.lang.sync.journal.Journal;
+import com.acme.lang.sync.journal.JournalRecord;
+
+/**
+ * Records every transaction in a Journal so it survives a crash and can be
+ * replayed. Appends are not synced here; call {@link Journal#sync(long)} at the
+ * batch boundaries that need durability.
+ */
+public class JournalTransLog implements TransLog {
+
+    private final Journal journal;
+
+    public JournalTransLog (Journal journal){
+        this.journal = journal;
+    }
+
+    @Override
+    public void log (String transName, double amount){
+        journal.append (typeOf (transName), amount);
+    }
+
+    static int typeOf (String transName){
+        if ("Deposit".equals (transName))
+            return JournalRecord.DEPOSIT;
+        if ("Withdrawal".equals (transName))
+            return JournalRecord.WITHDRAWAL;
+        return 0;
+    }
+}
@@ -0,0 +1,7 @@
+package com.acme.lang.sync.log;
+
+/** Where FinTrans and the *TransThread samples report each transaction. */
+public interface TransLog {
+
+    void log (String transName, double amount);
+}
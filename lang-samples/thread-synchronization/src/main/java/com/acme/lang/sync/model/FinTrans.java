@@ -1,13 +1,59 @@
 package com.acme.lang.sync.model;
 
+import com.acme.lang.sync.log.ConsoleTransLog;
+import com.acme.lang.sync.log.TransLog;
+
+import java.util.List;
+
 public class FinTrans {
+
+    /** One pending (transName, amount) pair for the batched update. */
+    public static final class Update {
+        public final String transName;
+        public final double amount;
+
+        public Update (String transName, double amount){
+            this.transName = transName;
+            this.amount = amount;
+        }
+    }
+
     public static String transName;
     public static double amount;
 
+    private final TransLog transLog;
+
+    public FinTrans ()
+    {
+        this (new ConsoleTransLog ());
+    }
+
+    public FinTrans (TransLog transLog)
+    {
+        this.transLog = transLog;
+    }
+
     public synchronized void update (String transName, double amount)
     {
         this.transName = transName;
         this.amount = amount;
-        System.out.println (this.transName + " " + this.amount);
+        log (this.transName, this.amount);
+    }
+
+    // Applies the updates in order under one monitor acquisition instead of one per update.
+    public synchronized void update (List<Update> batch)
+    {
+        for (int i = 0; i < batch.size (); i++){
+            Update u = batch.get (i);
+            this.transName = u.transName;
+            this.amount = u.amount;
+            log (this.transName, this.amount);
+        }
+    }
+
+    // Prints by default; an AsyncTransLog keeps the console write out of the caller's critical section.
+    public void log (String transName, double amount)
+    {
+        transLog.log (transName, amount);
     }
 }
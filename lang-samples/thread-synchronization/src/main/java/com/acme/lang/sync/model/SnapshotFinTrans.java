@@ -0,0 +1,49 @@
+package com.acme.lang.sync.model;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * FinTrans without a monitor. Each update publishes a new immutable
+ * (transName, amount) pair through an AtomicReference, so a reader always sees
+ * a matching pair and never waits, and writers never hold a lock while printing.
+ */
+public class SnapshotFinTrans {
+
+    public static final class Snapshot {
+        public final String transName;
+        public final double amount;
+
+        public Snapshot (String transName, double amount){
+            this.transName = transName;
+            this.amount = amount;
+        }
+
+        @Override
+        public String toString (){
+            return transName + " " + amount;
+        }
+    }
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<> (new Snapshot (null, 0.0));
+
+    /** Replaces the current transaction and returns the published snapshot. */
+    public Snapshot update (String transName, double amount){
+        Snapshot s = new Snapshot (transName, amount);
+        current.set (s);
+        return s;
+    }
+
+    /** Read-modify-write through a CAS loop; {@code change} may run more than once under contention. */
+    public Snapshot update (UnaryOperator<Snapshot> change){
+        return current.updateAndGet (change);
+    }
+
+    public boolean compareAndSet (Snapshot expected, String transName, double amount){
+        return current.compareAndSet (expected, new Snapshot (transName, amount));
+    }
+
+    public Snapshot snapshot (){
+        return current.get ();
+    }
+}
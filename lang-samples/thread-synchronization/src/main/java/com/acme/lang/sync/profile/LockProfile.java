@@ -0,0 +1,23 @@
+package com.acme.lang.sync.profile;
+
+import com.acme.lang.stats.LatencyHistogram;
+
+/** Acquire-wait and hold time histograms for every lock registered under one name. */
+public final class LockProfile {
+
+    public final String name;
+    public final String kind;
+    public final LatencyHistogram waitNanos = new LatencyHistogram ();
+    public final LatencyHistogram holdNanos = new LatencyHistogram ();
+
+    LockProfile (String name, String kind){
+        this.name = name;
+        this.kind = kind;
+    }
+
+    @Override
+    public String toString (){
+        return name + " (" + kind + ")\n  wait " + waitNanos.summary (1000, "us")
+                + "\n  hold " + holdNanos.summary (1000, "us");
+    }
+}
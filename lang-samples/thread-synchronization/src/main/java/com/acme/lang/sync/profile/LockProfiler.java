@@ -0,0 +1,60 @@
+package com.acme.lang.sync.profile;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Hands out profiled locks and keeps one wait/hold profile per lock name; locks
+ * created under the same name share it. {@link #dump()} can be called at any time.
+ */
+public class LockProfiler {
+
+    private final ConcurrentMap<String, LockProfile> profiles = new ConcurrentHashMap<> ();
+
+    public ProfiledLock monitor (String name, Object monitor){
+        return new MonitorProfiledLock (monitor, profile (name, "monitor"));
+    }
+
+    public ProfiledLock reentrant (String name){
+        return reentrant (name, new ReentrantLock ());
+    }
+
+    public ProfiledLock reentrant (String name, ReentrantLock lock){
+        return new ReentrantProfiledLock (lock, profile (name, "ReentrantLock"));
+    }
+
+    public ProfiledLock stamped (String name){
+        return stamped (name, new StampedLock ());
+    }
+
+    public ProfiledLock stamped (String name, StampedLock lock){
+        return new StampedProfiledLock (lock, profile (name, "StampedLock"));
+    }
+
+    public LockProfile profile (String name){
+        return profiles.get (name);
+    }
+
+    /** p50/p99/p99.9 wait and hold times of every lock name, sorted by name. */
+    public String dump (){
+        StringBuilder sb = new StringBuilder ();
+        profiles.keySet ().stream ().sorted ().forEach (name -> sb.append (profiles.get (name)).append ('\n'));
+        return sb.toString ();
+    }
+
+    public void reset (){
+        for (LockProfile p : profiles.values ()){
+            p.waitNanos.reset ();
+            p.holdNanos.reset ();
+        }
+    }
+
+    private LockProfile profile (String name, String kind){
+        LockProfile p = profiles.computeIfAbsent (name, n -> new LockProfile (n, kind));
+        if (!p.kind.equals (kind))
+            throw new IllegalArgumentException (name + " is already registered as a " + p.kind);
+        return p;
+    }
+}
@@ -0,0 +1,34 @@
+package com.acme.lang.sync.profile;
+
+import java.util.function.Supplier;
+
+/** Times synchronized (monitor) blocks; the monitor can be an existing object such as a FinTrans. */
+final class MonitorProfiledLock implements ProfiledLock {
+
+    private final Object monitor;
+    private final LockProfile profile;
+
+    MonitorProfiledLock (Object monitor, LockProfile profile){
+        this.monitor = monitor;
+        this.profile = profile;
+    }
+
+    @Override
+    public <T> T call (Supplier<T> critical){
+        long requested = System.nanoTime ();
+        synchronized (monitor){
+            long acquired = System.nanoTime ();
+            profile.waitNanos.record (acquired - requested);
+            try{
+                return critical.get ();
+            } finally {
+                profile.holdNanos.record (System.nanoTime () - acquired);
+            }
+        }
+    }
+
+    @Override
+    public LockProfile profile (){
+        return profile;
+    }
+}
@@ -0,0 +1,22 @@
+package com.acme.lang.sync.profile;
+
+import java.util.function.Supplier;
+
+/**
+ * A lock that times every critical section run through it: how long the caller
+ * waited to get in and how long it stayed. The same code can be measured on an
+ * intrinsic monitor, a ReentrantLock or a StampedLock by swapping the instance.
+ */
+public interface ProfiledLock {
+
+    <T> T call (Supplier<T> critical);
+
+    default void run (Runnable critical){
+        call (() -> {
+            critical.run ();
+            return null;
+        });
+    }
+
+    LockProfile profile ();
+}
@@ -0,0 +1,43 @@
+package com.acme.lang.sync.profile;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/** Times a ReentrantLock; nested calls on the same thread count towards the outermost hold only. */
+final class ReentrantProfiledLock implements ProfiledLock {
+
+    private final ReentrantLock lock;
+    private final LockProfile profile;
+
+    ReentrantProfiledLock (ReentrantLock lock, LockProfile profile){
+        this.lock = lock;
+        this.profile = profile;
+    }
+
+    @Override
+    public <T> T call (Supplier<T> critical){
+        if (lock.isHeldByCurrentThread ()){
+            lock.lock ();
+            try{
+                return critical.get ();
+            } finally {
+                lock.unlock ();
+            }
+        }
+        long requested = System.nanoTime ();
+        lock.lock ();
+        long acquired = System.nanoTime ();
+        profile.waitNanos.record (acquired - requested);
+        try{
+            return critical.get ();
+        } finally {
+            profile.holdNanos.record (System.nanoTime () - acquired);
+            lock.unlock ();
+        }
+    }
+
+    @Override
+    public LockProfile profile (){
+        return profile;
+    }
+}
@@ -0,0 +1,35 @@
+package com.acme.lang.sync.profile;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/** Times a StampedLock in write mode. StampedLock is not reentrant, so neither is this. */
+final class StampedProfiledLock implements ProfiledLock {
+
+    private final StampedLock lock;
+    private final LockProfile profile;
+
+    StampedProfiledLock (StampedLock lock, LockProfile profile){
+        this.lock = lock;
+        this.profile = profile;
+    }
+
+    @Override
+    public <T> T call (Supplier<T> critical){
+        long requested = System.nanoTime ();
+        long stamp = lock.writeLock ();
+        long acquired = System.nanoTime ();
+        profile.waitNanos.record (acquired - requested);
+        try{
+            return critical.get ();
+        } finally {
+            profile.holdNanos.record (System.nanoTime () - acquired);
+            lock.unlockWrite (stamp);
+        }
+    }
+
+    @Override
+    public LockProfile profile (){
+        return profile;
+    }
+}
@@ -0,0 +1,36 @@
+package com.acme.lang.sync.thread;
+
+import com.acme.lang.sync.model.FinTrans;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** UpTransThread's 100 updates, handed to FinTrans in batches of {@code batchSize}. */
+public class BatchTransThread extends Thread {
+    private FinTrans ft;
+    private int batchSize;
+
+    public BatchTransThread (FinTrans ft, String name, int batchSize)
+    {
+        super (name); // Save thread's name
+        this.ft = ft; // Save reference to financial transaction object
+        this.batchSize = batchSize;
+    }
+
+    public void run ()
+    {
+        FinTrans.Update update = getName ().equals ("Deposit Thread")
+                ? new FinTrans.Update ("Deposit", 2000.0)
+                : new FinTrans.Update ("Withdrawal", 250.0);
+        List<FinTrans.Update> batch = new ArrayList<> (batchSize);
+        for (int i = 0; i < 100; i++){
+            batch.add (update);
+            if (batch.size () == batchSize){
+                ft.update (batch);
+                batch.clear ();
+            }
+        }
+        if (!batch.isEmpty ())
+            ft.update (batch);
+    }
+}
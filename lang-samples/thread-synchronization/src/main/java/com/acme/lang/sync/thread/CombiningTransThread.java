@@ -0,0 +1,22 @@
+package com.acme.lang.sync.thread;
+
+import com.acme.lang.sync.combine.CombiningFinTrans;
+
+public class CombiningTransThread extends Thread {
+    private CombiningFinTrans ft;
+
+    public CombiningTransThread (CombiningFinTrans ft, String name)
+    {
+        super (name); // Save thread's name
+        this.ft = ft; // Save reference to financial transaction object
+    }
+
+    public void run ()
+    {
+        for (int i = 0; i < 100; i++)
+            if (getName ().startsWith ("Deposit"))
+                ft.update ("Deposit", 2000.0);
+            else
+                ft.update ("Withdrawal", 250.0);
+    }
+}
@@ -22,7 +22,7 @@ public class DeadTransThread extends Thread {
                             Thread.sleep ((int) (Math.random () * 1000));
                         }catch (InterruptedException e){}
                         ft.amount = 2000.0;
-                        System.out.println (ft.transName + " " + ft.amount);
+                        ft.log (ft.transName, ft.amount);
                     }
                 }
             } else {
@@ -33,7 +33,7 @@ public class DeadTransThread extends Thread {
                             Thread.sleep ((int) (Math.random () * 1000));
                         } catch (InterruptedException e) {}
                         ft.amount = 250.0;
-                        System.out.println (ft.transName + " " + ft.amount);
+                        ft.log (ft.transName, ft.amount);
                     }
                 }
             }
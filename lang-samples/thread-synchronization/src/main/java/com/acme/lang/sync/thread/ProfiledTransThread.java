@@ -0,0 +1,35 @@
+package com.acme.lang.sync.thread;
+
+import com.acme.lang.sync.model.FinTrans;
+import com.acme.lang.sync.profile.ProfiledLock;
+
+/** SyncTransThread's critical section, entered through a ProfiledLock instead of synchronized (ft). */
+public class ProfiledTransThread extends Thread {
+    private FinTrans ft;
+    private ProfiledLock lock;
+    private int iterations;
+    private int maxSleepMillis;
+
+    public ProfiledTransThread (ProfiledLock lock, FinTrans ft, String name, int iterations, int maxSleepMillis){
+        super (name); // Save thread's name
+        this.ft = ft; // Save reference to financial transaction object
+        this.lock = lock;
+        this.iterations = iterations;
+        this.maxSleepMillis = maxSleepMillis;
+    }
+
+    @Override
+    public void run (){
+        boolean deposit = getName ().equals ("Deposit Thread");
+        for (int i = 0; i < iterations; i++){
+            lock.run (() -> {
+                ft.transName = deposit ? "Deposit" : "Withdrawal";
+                try{
+                    Thread.sleep ((int) (Math.random () * maxSleepMillis));
+                } catch (InterruptedException e){}
+                ft.amount = deposit ? 2000.0 : 250.0;
+                ft.log (ft.transName, ft.amount);
+            });
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.acme.lang.sync.thread;
+
+import com.acme.lang.sync.model.SnapshotFinTrans;
+
+public class SnapshotTransThread extends Thread {
+    private SnapshotFinTrans ft;
+
+    public SnapshotTransThread (SnapshotFinTrans ft, String name){
+        super (name); // Save thread's name
+        this.ft = ft; // Save reference to financial transaction object
+    }
+
+    @Override
+    public void run (){
+        for (int i = 0; i < 100; i++){
+            SnapshotFinTrans.Snapshot s;
+            if (getName ().equals ("Deposit Thread"))
+                s = ft.update ("Deposit", 2000.0);
+            else
+                s = ft.update ("Withdrawal", 250.0);
+            // Printed after publication; no lock is held across the console write.
+            System.out.println (s);
+        }
+    }
+}
@@ -4,32 +4,40 @@ import com.acme.lang.sync.model.FinTrans;
 
 public class SyncTransThread extends Thread {
     private FinTrans ft;
+    private int iterations;
+    private int maxSleepMillis;
 
     public SyncTransThread (FinTrans ft, String name){
+        this (ft, name, 100, 1000);
+    }
+
+    public SyncTransThread (FinTrans ft, String name, int iterations, int maxSleepMillis){
         super (name); // Save thread's name
         this.ft = ft; // Save reference to financial transaction object
+        this.iterations = iterations;
+        this.maxSleepMillis = maxSleepMillis;
     }
 
     @Override
     public void run (){
-        for (int i = 0; i < 100; i++){
+        for (int i = 0; i < iterations; i++){
             if (getName ().equals ("Deposit Thread")){
                 synchronized (ft){
                     ft.transName = "Deposit";
                     try{
-                        Thread.sleep ((int) (Math.random () * 1000));
+                        Thread.sleep ((int) (Math.random () * maxSleepMillis));
                     } catch (InterruptedException e){}
                     ft.amount = 2000.0;
-                    System.out.println (ft.transName + " " + ft.amount);
+                    ft.log (ft.transName, ft.amount);
                 }
             } else {
                 synchronized (ft){
                     ft.transName = "Withdrawal";
                     try{
-                        Thread.sleep ((int) (Math.random () * 1000));
+                        Thread.sleep ((int) (Math.random () * maxSleepMillis));
                     } catch (InterruptedException e){}
                     ft.amount = 250.0;
-                    System.out.println (ft.transName + " " + ft.amount);
+                    ft.log (ft.transName, ft.amount);
                 }
             }
         }
@@ -21,7 +21,7 @@ public class TransThread extends Thread {
                     Thread.sleep ((int) (Math.random () * 1000));
                 }catch (InterruptedException e){}
                 ft.amount = 2000.0;
-                System.out.println (ft.transName + " " + ft.amount);
+                ft.log (ft.transName, ft.amount);
                 // End of deposit thread's critical code section
             } else {
                 // Start of withdrawal thread's critical code section
@@ -30,7 +30,7 @@ public class TransThread extends Thread {
                     Thread.sleep ((int) (Math.random () * 1000));
                 } catch (InterruptedException e){}
                 ft.amount = 250.0;
-                System.out.println (ft.transName + " " + ft.amount);
+                ft.log (ft.transName, ft.amount);
                 // End of withdrawal thread's critical code section
             }
         }
@@ -20,7 +20,7 @@ public class WrongTransThread extends Thread
                         Thread.sleep ((int) (Math.random () * 1000));
                     } catch (InterruptedException e){}
                     ft.amount = 2000.0;
-                    System.out.println (ft.transName + " " + ft.amount);
+                    ft.log (ft.transName, ft.amount);
                 }
             } else {
                 synchronized (this) {
@@ -29,7 +29,7 @@ public class WrongTransThread extends Thread
                         Thread.sleep ((int) (Math.random () * 1000));
                     } catch (InterruptedException e) { }
                     ft.amount = 250.0;
-                    System.out.println (ft.transName + " " + ft.amount);
+                    ft.log (ft.transName, ft.amount);
                 }
             }
         }
@@ -0,0 +1,213 @@
+package com.acme.lang.sync.watchdog;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Polls ThreadMXBean for deadlocks and for threads blocked on the same monitor
+ * longer than a threshold, which DeadlockSample would otherwise hang on silently.
+ * A deadlock is reported once per cycle with every member's wait, the lock owner
+ * and full stacks; the configured action then interrupts the members or halts
+ * the JVM. A normal poll reads no stacks, and its CPU cost is tracked so the
+ * watchdog can be judged for always-on use.
+ */
+public class DeadlockWatchdog implements AutoCloseable {
+
+    public enum Action {
+        /** Only report. */
+        REPORT,
+        /** Report and interrupt every thread in the cycle; helps lockInterruptibly() and sleep(), not monitors. */
+        INTERRUPT,
+        /** Report and halt the JVM with exit status 2. */
+        FAIL_FAST
+    }
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean ();
+    private final long blockedThresholdNanos;
+    private final Action action;
+    private final Consumer<String> sink;
+    private final ScheduledExecutorService scheduler;
+
+    // Thread id -> when it was first seen in its current blocked episode.
+    private final Map<Long, Blocked> blocked = new HashMap<> ();
+    private final Set<Set<Long>> reportedCycles = new HashSet<> ();
+
+    private final AtomicLong polls = new AtomicLong ();
+    private final AtomicLong pollCpuNanos = new AtomicLong ();
+    private final AtomicLong deadlocks = new AtomicLong ();
+    private final AtomicLong longBlocked = new AtomicLong ();
+
+    public DeadlockWatchdog (long period, long blockedThreshold, TimeUnit unit, Action action){
+        this (period, blockedThreshold, unit, action, System.err::println);
+    }
+
+    public DeadlockWatchdog (long period, long blockedThreshold, TimeUnit unit, Action action, Consumer<String> sink){
+        this.blockedThresholdNanos = unit.toNanos (blockedThreshold);
+        this.action = action;
+        this.sink = sink;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor (r -> {
+            Thread t = new Thread (r, "deadlock-watchdog");
+            t.setDaemon (true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay (this::poll, period, period, unit);
+    }
+
+    public long polls (){
+        return polls.get ();
+    }
+
+    /** Mean CPU nanoseconds spent per poll so far. */
+    public long meanPollCpuNanos (){
+        long n = polls.get ();
+        return n == 0 ? 0 : pollCpuNanos.get () / n;
+    }
+
+    public long deadlocksFound (){
+        return deadlocks.get ();
+    }
+
+    public long longBlockedFound (){
+        return longBlocked.get ();
+    }
+
+    @Override
+    public void close (){
+        scheduler.shutdownNow ();
+    }
+
+    void poll (){
+        long cpu = threads.getCurrentThreadCpuTime ();
+        try{
+            checkDeadlocks ();
+            checkLongBlocked ();
+        } catch (RuntimeException e) {
+            sink.accept ("deadlock watchdog poll failed: " + e);
+        }
+        polls.incrementAndGet ();
+        if (cpu >= 0)
+            pollCpuNanos.addAndGet (threads.getCurrentThreadCpuTime () - cpu);
+    }
+
+    private void checkDeadlocks (){
+        long [] ids = threads.isSynchronizerUsageSupported ()
+                ? threads.findDeadlockedThreads ()
+                : threads.findMonitorDeadlockedThreads ();
+        if (ids == null)
+            return;
+        Set<Long> cycle = new HashSet<> ();
+        for (long id : ids)
+            cycle.add (id);
+        if (!reportedCycles.add (cycle))
+            return;
+        deadlocks.incrementAndGet ();
+
+        ThreadInfo [] infos = threads.getThreadInfo (ids, threads.isObjectMonitorUsageSupported (),
+                threads.isSynchronizerUsageSupported ());
+        StringBuilder sb = new StringBuilder ("DEADLOCK between " + ids.length + " threads\n");
+        for (ThreadInfo info : infos){
+            if (info == null)
+                continue;
+            sb.append ("  \"").append (info.getThreadName ()).append ("\" waits for ").append (info.getLockName ())
+                    .append (" held by \"").append (info.getLockOwnerName ()).append ("\"\n");
+        }
+        for (ThreadInfo info : infos)
+            if (info != null)
+                appendStack (sb, info);
+        sink.accept (sb.toString ());
+        act (ids);
+    }
+
+    private void checkLongBlocked (){
+        long now = System.nanoTime ();
+        ThreadInfo [] infos = threads.getThreadInfo (threads.getAllThreadIds (), 0);
+        Set<Long> stillBlocked = new HashSet<> ();
+        for (ThreadInfo info : infos){
+            if (info == null || info.getThreadState () != Thread.State.BLOCKED)
+                continue;
+            long id = info.getThreadId ();
+            stillBlocked.add (id);
+            // A new blocked count means the thread got the monitor in between and blocked again.
+            Blocked b = blocked.get (id);
+            if (b == null || b.blockedCount != info.getBlockedCount ()){
+                blocked.put (id, new Blocked (info.getBlockedCount (), now));
+            } else if (!b.reported && now - b.since >= blockedThresholdNanos){
+                b.reported = true;
+                longBlocked.incrementAndGet ();
+                report (info, now - b.since);
+            }
+        }
+        blocked.keySet ().retainAll (stillBlocked);
+    }
+
+    private void report (ThreadInfo info, long nanos){
+        StringBuilder sb = new StringBuilder ();
+        sb.append ("\"").append (info.getThreadName ()).append ("\" blocked for ").append (nanos / 1000000)
+                .append (" ms on ").append (info.getLockName ()).append (" held by \"")
+                .append (info.getLockOwnerName ()).append ("\"\n");
+        long owner = info.getLockOwnerId ();
+        long [] ids = owner < 0 ? new long [] {info.getThreadId ()} : new long [] {info.getThreadId (), owner};
+        for (ThreadInfo withStack : threads.getThreadInfo (ids, threads.isObjectMonitorUsageSupported (),
+                threads.isSynchronizerUsageSupported ()))
+            if (withStack != null)
+                appendStack (sb, withStack);
+        sink.accept (sb.toString ());
+    }
+
+    private void act (long [] ids){
+        switch (action){
+            case INTERRUPT:
+                Set<Long> targets = new HashSet<> ();
+                for (long id : ids)
+                    targets.add (id);
+                for (Thread t : Thread.getAllStackTraces ().keySet ())
+                    if (targets.contains (t.getId ()))
+                        t.interrupt ();
+                break;
+            case FAIL_FAST:
+                Runtime.getRuntime ().halt (2);
+                break;
+            default:
+                break;
+        }
+    }
+
+    // ThreadInfo.toString() stops after eight frames; owners need the whole stack.
+    private static void appendStack (StringBuilder sb, ThreadInfo info){
+        sb.append ("\"").append (info.getThreadName ()).append ("\" id=").append (info.getThreadId ())
+                .append (' ').append (info.getThreadState ()).append ('\n');
+        StackTraceElement [] stack = info.getStackTrace ();
+        MonitorInfo [] monitors = info.getLockedMonitors ();
+        for (int i = 0; i < stack.length; i++){
+            sb.append ("    at ").append (stack [i]).append ('\n');
+            for (MonitorInfo m : monitors)
+                if (m.getLockedStackDepth () == i)
+                    sb.append ("    - locked ").append (m).append ('\n');
+        }
+        for (LockInfo l : info.getLockedSynchronizers ())
+            sb.append ("    - owns ").append (l).append ('\n');
+    }
+
+    private static final class Blocked {
+        final long blockedCount;
+        final long since;
+        boolean reported;
+
+        Blocked (long blockedCount, long since){
+            this.blockedCount = blockedCount;
+            this.since = since;
+        }
+    }
+}